@@ -41,8 +41,19 @@ public class AlreadySelectedException extends ParseException {
      * @since 1.2
      */
     public AlreadySelectedException(final OptionGroup optionGroup, final Option option) {
-        this(String.format("The option '%s' was specified but an option from this group has already been selected: '%s'", option.getKey(),
-                optionGroup.getSelected()), optionGroup, option);
+        this(optionGroup, option, optionGroup.getSelected());
+    }
+
+    /**
+     * Constructs a new {@code AlreadySelectedException} for the specified option group and the key of the option selected in that group.
+     *
+     * @param optionGroup The option group already selected.
+     * @param option The option that triggered the exception.
+     * @param selected The key of the option already selected in the group.
+     */
+    AlreadySelectedException(final OptionGroup optionGroup, final Option option, final String selected) {
+        this(String.format("The option '%s' was specified but an option from this group has already been selected: '%s'", option.getKey(), selected),
+                optionGroup, option);
     }
 
     /**
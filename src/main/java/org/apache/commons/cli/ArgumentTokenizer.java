@@ -0,0 +1,177 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Splits the characters of a {@link Reader} into command line arguments, one argument at a time.
+ * <p>
+ * Arguments are separated by whitespace. A part of an argument enclosed in double or single quotes keeps its whitespace and loses its quotes. Inside quotes,
+ * a backslash escapes the next character, {@code \n}, {@code \r}, {@code \t} and {@code \f} standing for their control characters; outside quotes a
+ * backslash is an ordinary character. An unterminated quote ends with the input.
+ * </p>
+ * <p>
+ * Characters are read through a fixed buffer and only the current argument is held in memory, whatever the length of the input. The reader is not closed.
+ * An {@link IOException} of the reader is thrown as an {@link UncheckedIOException}.
+ * </p>
+ */
+final class ArgumentTokenizer implements Iterator<String> {
+
+    /** The size of the read buffer. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** The end of the input. */
+    private static final int EOF = -1;
+
+    /**
+     * Gets the character escaped by a backslash.
+     *
+     * @param c The character following the backslash.
+     * @return The escaped character.
+     */
+    private static char unescape(final int c) {
+        switch (c) {
+        case 'f':
+            return '\f';
+        case 'n':
+            return '\n';
+        case 'r':
+            return '\r';
+        case 't':
+            return '\t';
+        default:
+            return (char) c;
+        }
+    }
+
+    /** The reader. */
+    private final Reader reader;
+
+    /** The read buffer. */
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    /** The position of the next character in {@link #buffer}. */
+    private int position;
+
+    /** The number of characters in {@link #buffer}. */
+    private int limit;
+
+    /** The characters of the argument being read. */
+    private final StringBuilder builder = new StringBuilder();
+
+    /** The next argument, or null if not read yet. */
+    private String next;
+
+    /** Whether the end of the input is reached. */
+    private boolean done;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param reader The reader of the arguments.
+     */
+    ArgumentTokenizer(final Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            next = readArgument();
+        }
+        return next != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final String argument = next;
+        next = null;
+        return argument;
+    }
+
+    /**
+     * Reads a character.
+     *
+     * @return The character, or {@link #EOF}.
+     */
+    private int read() {
+        if (position == limit) {
+            try {
+                limit = reader.read(buffer, 0, buffer.length);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return EOF;
+            }
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * Reads an argument.
+     *
+     * @return The argument, or null at the end of the input.
+     */
+    private String readArgument() {
+        int c = read();
+        while (c != EOF && Character.isWhitespace(c)) {
+            c = read();
+        }
+        if (c == EOF) {
+            done = true;
+            return null;
+        }
+        builder.setLength(0);
+        int quote = 0;
+        for (; c != EOF; c = read()) {
+            if (quote == 0) {
+                if (Character.isWhitespace(c)) {
+                    break;
+                }
+                if (c == '"' || c == '\'') {
+                    quote = c;
+                } else {
+                    builder.append((char) c);
+                }
+            } else if (c == quote) {
+                quote = 0;
+            } else if (c == '\\') {
+                final int escaped = read();
+                if (escaped == EOF) {
+                    builder.append('\\');
+                    break;
+                }
+                builder.append(unescape(escaped));
+            } else {
+                builder.append((char) c);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -20,9 +20,12 @@ package org.apache.commons.cli;
 import java.io.Serializable;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.function.Consumer;
@@ -56,13 +59,22 @@ public class CommandLine implements Serializable {
         private final List<String> args = new LinkedList<>();
 
         /** The processed options */
-        private final List<Option> options = new ArrayList<>();
+        private final List<ParsedOption> options = new ArrayList<>();
 
         /**
          * Deprecated Option handler.
          */
         private Consumer<Option> deprecatedHandler = DEPRECATED_HANDLER;
 
+        /** The option group selections recorded by the parser, or null to use the state of the option groups. */
+        private Map<OptionGroup, String> selectedGroups;
+
+        /** Flag indicating if the values converted by the option converters are cached. */
+        private boolean cacheConvertedValues;
+
+        /** The listener of the value conversions, or null. */
+        private ParseListener parseListener;
+
         /**
          * Constructs a new instance.
          *
@@ -94,7 +106,7 @@ public class CommandLine implements Serializable {
          */
         public Builder addOption(final Option option) {
             if (option != null) {
-                options.add(option);
+                options.add(ParsedOption.wrap(option));
             }
             return this;
         }
@@ -118,7 +130,26 @@ public class CommandLine implements Serializable {
          */
         @Override
         public CommandLine get() {
-            return new CommandLine(args, options, deprecatedHandler);
+            return new CommandLine(args, options, deprecatedHandler, selectedGroups, cacheConvertedValues, parseListener);
+        }
+
+        /**
+         * Sets if the values converted by the option converters are cached.
+         * <p>
+         * When true, {@code getParsedOptionValue} and {@code getParsedOptionValues} convert each value of each occurrence once, the first time it is read,
+         * and return the same converted instance on later reads. This saves repeating expensive conversions such as {@link Converter#OBJECT} or
+         * {@link Converter#DATE}, at the cost of sharing the converted instances between callers. A cached value is converted again if the converter of
+         * its option changes. The command line can be read by several threads at once: they may each convert a value read at the same time, but all of them
+         * get the first converted instance cached. Converted values are not cached by default.
+         * </p>
+         *
+         * @param cacheConvertedValues whether converted values are cached.
+         * @return {@code this} instance.
+         * @since 1.12.0
+         */
+        public Builder setCacheConvertedValues(final boolean cacheConvertedValues) {
+            this.cacheConvertedValues = cacheConvertedValues;
+            return this;
         }
 
         /**
@@ -132,6 +163,68 @@ public class CommandLine implements Serializable {
             this.deprecatedHandler = deprecatedHandler;
             return this;
         }
+
+        /**
+         * Sets the listener of the value conversions, see {@link ParseListener#valueConverted(Option, long)}.
+         *
+         * @param parseListener The listener of the value conversions, or null.
+         * @return {@code this} instance.
+         */
+        Builder setParseListener(final ParseListener parseListener) {
+            this.parseListener = parseListener;
+            return this;
+        }
+
+        /**
+         * Sets the option group selections, a map from an option group to the key of its selected option.
+         * <p>
+         * A parser that leaves its {@link Options} untouched records the selections here instead of calling {@link OptionGroup#setSelected(Option)}.
+         * </p>
+         *
+         * @param selectedGroups The option group selections, or null to use the state of the option groups.
+         * @return {@code this} instance.
+         */
+        Builder setSelectedGroups(final Map<OptionGroup, String> selectedGroups) {
+            this.selectedGroups = selectedGroups;
+            return this;
+        }
+    }
+
+    /**
+     * Lookup index of the processed options, only updated while a parser adds options, before the command line is shared.
+     */
+    private static final class Index {
+
+        /** The processed options by short and long name, the first occurrence wins. */
+        private final Map<String, Option> optionsByName = new HashMap<>();
+
+        /** The occurrences of each processed option, in command line order. */
+        private final Map<Option, List<ParsedOption>> occurrences = new HashMap<>();
+
+        /**
+         * Builds the index of the given processed options.
+         *
+         * @param options The processed options.
+         */
+        private Index(final List<ParsedOption> options) {
+            options.forEach(this::add);
+        }
+
+        /**
+         * Adds an occurrence of an option to the index.
+         *
+         * @param parsedOption The occurrence of an option.
+         */
+        private void add(final ParsedOption parsedOption) {
+            final Option option = parsedOption.getOption();
+            if (option.getOpt() != null) {
+                optionsByName.putIfAbsent(option.getOpt(), option);
+            }
+            if (option.getLongOpt() != null) {
+                optionsByName.putIfAbsent(option.getLongOpt(), option);
+            }
+            occurrences.computeIfAbsent(option, k -> new ArrayList<>(1)).add(parsedOption);
+        }
     }
 
     /** The serial version UID. */
@@ -151,7 +244,7 @@ public class CommandLine implements Serializable {
     private final List<String> args;
 
     /** The processed options */
-    private final List<Option> options;
+    private final List<ParsedOption> options;
 
     /**
      * The deprecated option handler.
@@ -161,20 +254,36 @@ public class CommandLine implements Serializable {
      */
     private final transient Consumer<Option> deprecatedHandler;
 
+    /** The option group selections recorded by the parser, or null to use the state of the option groups. */
+    private final Map<OptionGroup, String> selectedGroups;
+
+    /** Flag indicating if the values converted by the option converters are cached, see {@link Builder#setCacheConvertedValues(boolean)}. */
+    private final boolean cacheConvertedValues;
+
+    /** The listener of the value conversions, or null. */
+    private final transient ParseListener parseListener;
+
+    /** The lookup index of the processed options; built on demand, updated when an option is added and reset when one is removed. */
+    private transient Index index;
+
     /**
      * Creates a command line.
      */
     protected CommandLine() {
-        this(new LinkedList<>(), new ArrayList<>(), Builder.DEPRECATED_HANDLER);
+        this(new LinkedList<>(), new ArrayList<>(), Builder.DEPRECATED_HANDLER, null, false, null);
     }
 
     /**
      * Creates a command line.
      */
-    private CommandLine(final List<String> args, final List<Option> options, final Consumer<Option> deprecatedHandler) {
+    private CommandLine(final List<String> args, final List<ParsedOption> options, final Consumer<Option> deprecatedHandler,
+            final Map<OptionGroup, String> selectedGroups, final boolean cacheConvertedValues, final ParseListener parseListener) {
         this.args = Objects.requireNonNull(args, "args");
         this.options = Objects.requireNonNull(options, "options");
         this.deprecatedHandler = deprecatedHandler;
+        this.selectedGroups = selectedGroups;
+        this.cacheConvertedValues = cacheConvertedValues;
+        this.parseListener = parseListener;
     }
 
     /**
@@ -195,7 +304,21 @@ public class CommandLine implements Serializable {
      */
     protected void addOption(final Option option) {
         if (option != null) {
-            options.add(option);
+            addParsedOption(ParsedOption.wrap(option));
+        }
+    }
+
+    /**
+     * Adds an occurrence of an option to the command line.
+     *
+     * @param parsedOption The occurrence of an option.
+     */
+    void addParsedOption(final ParsedOption parsedOption) {
+        options.add(parsedOption);
+        // keep a built index up to date, so that checking options while adding more, as parsers do with properties, does not rebuild it each time
+        final Index current = index;
+        if (current != null) {
+            current.add(parsedOption);
         }
     }
 
@@ -231,6 +354,333 @@ public class CommandLine implements Serializable {
         return args.toArray(Util.EMPTY_STRING_ARRAY);
     }
 
+    /**
+     * Gets the first argument of an option parsed as a {@code double} with {@link Double#parseDouble(String)}, without boxing.
+     *
+     * @param optionChar The character name of the option.
+     * @param defaultValue The default value to return if the option is not set.
+     * @return The parsed value if the option is set, and has an argument, otherwise {@code defaultValue}.
+     * @throws ParseException if the value is not a {@code double}.
+     * @since 1.12.0
+     */
+    public double getDoubleOptionValue(final char optionChar, final double defaultValue) throws ParseException {
+        return getDoubleOptionValue(String.valueOf(optionChar), defaultValue);
+    }
+
+    /**
+     * Gets the first argument of an option parsed as a {@code double} with {@link Double#parseDouble(String)}, without boxing.
+     * <p>
+     * The {@link Converter} of the option is not used.
+     * </p>
+     *
+     * @param option The option.
+     * @param defaultValue The default value to return if the option is not set.
+     * @return The parsed value if the option is set, and has an argument, otherwise {@code defaultValue}.
+     * @throws ParseException if the value is not a {@code double}.
+     * @since 1.12.0
+     */
+    public double getDoubleOptionValue(final Option option, final double defaultValue) throws ParseException {
+        final String value = getOptionValue(option);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (final NumberFormatException e) {
+            throw ParseException.wrap(e);
+        }
+    }
+
+    /**
+     * Gets the first argument of an option parsed as a {@code double} with {@link Double#parseDouble(String)}, without boxing.
+     *
+     * @param optionName The short or long name of the option.
+     * @param defaultValue The default value to return if the option is not set.
+     * @return The parsed value if the option is set, and has an argument, otherwise {@code defaultValue}.
+     * @throws ParseException if the value is not a {@code double}.
+     * @since 1.12.0
+     */
+    public double getDoubleOptionValue(final String optionName, final double defaultValue) throws ParseException {
+        return getDoubleOptionValue(resolveOption(optionName), defaultValue);
+    }
+
+    /**
+     * Gets the arguments of all occurrences of an option parsed as {@code double} values with {@link Double#parseDouble(String)}, without
+     * boxing.
+     *
+     * @param optionChar The character name of the option.
+     * @return The parsed values if the option is set, and has an argument, otherwise null.
+     * @throws ParseException if a value is not a {@code double}.
+     * @since 1.12.0
+     */
+    public double[] getDoubleOptionValues(final char optionChar) throws ParseException {
+        return getDoubleOptionValues(String.valueOf(optionChar));
+    }
+
+    /**
+     * Gets the arguments of all occurrences of an option parsed as {@code double} values with {@link Double#parseDouble(String)}, without
+     * boxing.
+     * <p>
+     * The values are parsed from the stored values directly, without an intermediate {@code String[]}. The {@link Converter} of the option is not used.
+     * </p>
+     *
+     * @param option The option.
+     * @return The parsed values if the option is set, and has an argument, otherwise null.
+     * @throws ParseException if a value is not a {@code double}.
+     * @since 1.12.0
+     */
+    public double[] getDoubleOptionValues(final Option option) throws ParseException {
+        final List<ParsedOption> parsedOptions = getValueOccurrences(option);
+        final int count = countValues(parsedOptions);
+        if (count == 0) {
+            return null;
+        }
+        final double[] result = new double[count];
+        int i = 0;
+        try {
+            for (final ParsedOption parsedOption : parsedOptions) {
+                final List<String> values = parsedOption.getValuesList();
+                for (int j = 0; j < values.size(); j++) {
+                    result[i++] = Double.parseDouble(values.get(j));
+                }
+            }
+        } catch (final NumberFormatException e) {
+            throw ParseException.wrap(e);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the arguments of all occurrences of an option parsed as {@code double} values with {@link Double#parseDouble(String)}, without
+     * boxing.
+     *
+     * @param optionName The short or long name of the option.
+     * @return The parsed values if the option is set, and has an argument, otherwise null.
+     * @throws ParseException if a value is not a {@code double}.
+     * @since 1.12.0
+     */
+    public double[] getDoubleOptionValues(final String optionName) throws ParseException {
+        return getDoubleOptionValues(resolveOption(optionName));
+    }
+
+    /**
+     * Gets the first argument of an option parsed as an {@code int} with {@link Integer#parseInt(String)}, without boxing.
+     *
+     * @param optionChar The character name of the option.
+     * @param defaultValue The default value to return if the option is not set.
+     * @return The parsed value if the option is set, and has an argument, otherwise {@code defaultValue}.
+     * @throws ParseException if the value is not an {@code int}.
+     * @since 1.12.0
+     */
+    public int getIntOptionValue(final char optionChar, final int defaultValue) throws ParseException {
+        return getIntOptionValue(String.valueOf(optionChar), defaultValue);
+    }
+
+    /**
+     * Gets the first argument of an option parsed as an {@code int} with {@link Integer#parseInt(String)}, without boxing.
+     * <p>
+     * The {@link Converter} of the option is not used.
+     * </p>
+     *
+     * @param option The option.
+     * @param defaultValue The default value to return if the option is not set.
+     * @return The parsed value if the option is set, and has an argument, otherwise {@code defaultValue}.
+     * @throws ParseException if the value is not an {@code int}.
+     * @since 1.12.0
+     */
+    public int getIntOptionValue(final Option option, final int defaultValue) throws ParseException {
+        final String value = getOptionValue(option);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (final NumberFormatException e) {
+            throw ParseException.wrap(e);
+        }
+    }
+
+    /**
+     * Gets the first argument of an option parsed as an {@code int} with {@link Integer#parseInt(String)}, without boxing.
+     *
+     * @param optionName The short or long name of the option.
+     * @param defaultValue The default value to return if the option is not set.
+     * @return The parsed value if the option is set, and has an argument, otherwise {@code defaultValue}.
+     * @throws ParseException if the value is not an {@code int}.
+     * @since 1.12.0
+     */
+    public int getIntOptionValue(final String optionName, final int defaultValue) throws ParseException {
+        return getIntOptionValue(resolveOption(optionName), defaultValue);
+    }
+
+    /**
+     * Gets the arguments of all occurrences of an option parsed as {@code int} values with {@link Integer#parseInt(String)}, without
+     * boxing.
+     *
+     * @param optionChar The character name of the option.
+     * @return The parsed values if the option is set, and has an argument, otherwise null.
+     * @throws ParseException if a value is not an {@code int}.
+     * @since 1.12.0
+     */
+    public int[] getIntOptionValues(final char optionChar) throws ParseException {
+        return getIntOptionValues(String.valueOf(optionChar));
+    }
+
+    /**
+     * Gets the arguments of all occurrences of an option parsed as {@code int} values with {@link Integer#parseInt(String)}, without
+     * boxing.
+     * <p>
+     * The values are parsed from the stored values directly, without an intermediate {@code String[]}. The {@link Converter} of the option is not used.
+     * </p>
+     *
+     * @param option The option.
+     * @return The parsed values if the option is set, and has an argument, otherwise null.
+     * @throws ParseException if a value is not an {@code int}.
+     * @since 1.12.0
+     */
+    public int[] getIntOptionValues(final Option option) throws ParseException {
+        final List<ParsedOption> parsedOptions = getValueOccurrences(option);
+        final int count = countValues(parsedOptions);
+        if (count == 0) {
+            return null;
+        }
+        final int[] result = new int[count];
+        int i = 0;
+        try {
+            for (final ParsedOption parsedOption : parsedOptions) {
+                final List<String> values = parsedOption.getValuesList();
+                for (int j = 0; j < values.size(); j++) {
+                    result[i++] = Integer.parseInt(values.get(j));
+                }
+            }
+        } catch (final NumberFormatException e) {
+            throw ParseException.wrap(e);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the arguments of all occurrences of an option parsed as {@code int} values with {@link Integer#parseInt(String)}, without
+     * boxing.
+     *
+     * @param optionName The short or long name of the option.
+     * @return The parsed values if the option is set, and has an argument, otherwise null.
+     * @throws ParseException if a value is not an {@code int}.
+     * @since 1.12.0
+     */
+    public int[] getIntOptionValues(final String optionName) throws ParseException {
+        return getIntOptionValues(resolveOption(optionName));
+    }
+
+    /**
+     * Gets the first argument of an option parsed as a {@code long} with {@link Long#parseLong(String)}, without boxing.
+     *
+     * @param optionChar The character name of the option.
+     * @param defaultValue The default value to return if the option is not set.
+     * @return The parsed value if the option is set, and has an argument, otherwise {@code defaultValue}.
+     * @throws ParseException if the value is not a {@code long}.
+     * @since 1.12.0
+     */
+    public long getLongOptionValue(final char optionChar, final long defaultValue) throws ParseException {
+        return getLongOptionValue(String.valueOf(optionChar), defaultValue);
+    }
+
+    /**
+     * Gets the first argument of an option parsed as a {@code long} with {@link Long#parseLong(String)}, without boxing.
+     * <p>
+     * The {@link Converter} of the option is not used.
+     * </p>
+     *
+     * @param option The option.
+     * @param defaultValue The default value to return if the option is not set.
+     * @return The parsed value if the option is set, and has an argument, otherwise {@code defaultValue}.
+     * @throws ParseException if the value is not a {@code long}.
+     * @since 1.12.0
+     */
+    public long getLongOptionValue(final Option option, final long defaultValue) throws ParseException {
+        final String value = getOptionValue(option);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (final NumberFormatException e) {
+            throw ParseException.wrap(e);
+        }
+    }
+
+    /**
+     * Gets the first argument of an option parsed as a {@code long} with {@link Long#parseLong(String)}, without boxing.
+     *
+     * @param optionName The short or long name of the option.
+     * @param defaultValue The default value to return if the option is not set.
+     * @return The parsed value if the option is set, and has an argument, otherwise {@code defaultValue}.
+     * @throws ParseException if the value is not a {@code long}.
+     * @since 1.12.0
+     */
+    public long getLongOptionValue(final String optionName, final long defaultValue) throws ParseException {
+        return getLongOptionValue(resolveOption(optionName), defaultValue);
+    }
+
+    /**
+     * Gets the arguments of all occurrences of an option parsed as {@code long} values with {@link Long#parseLong(String)}, without
+     * boxing.
+     *
+     * @param optionChar The character name of the option.
+     * @return The parsed values if the option is set, and has an argument, otherwise null.
+     * @throws ParseException if a value is not a {@code long}.
+     * @since 1.12.0
+     */
+    public long[] getLongOptionValues(final char optionChar) throws ParseException {
+        return getLongOptionValues(String.valueOf(optionChar));
+    }
+
+    /**
+     * Gets the arguments of all occurrences of an option parsed as {@code long} values with {@link Long#parseLong(String)}, without
+     * boxing.
+     * <p>
+     * The values are parsed from the stored values directly, without an intermediate {@code String[]}. The {@link Converter} of the option is not used.
+     * </p>
+     *
+     * @param option The option.
+     * @return The parsed values if the option is set, and has an argument, otherwise null.
+     * @throws ParseException if a value is not a {@code long}.
+     * @since 1.12.0
+     */
+    public long[] getLongOptionValues(final Option option) throws ParseException {
+        final List<ParsedOption> parsedOptions = getValueOccurrences(option);
+        final int count = countValues(parsedOptions);
+        if (count == 0) {
+            return null;
+        }
+        final long[] result = new long[count];
+        int i = 0;
+        try {
+            for (final ParsedOption parsedOption : parsedOptions) {
+                final List<String> values = parsedOption.getValuesList();
+                for (int j = 0; j < values.size(); j++) {
+                    result[i++] = Long.parseLong(values.get(j));
+                }
+            }
+        } catch (final NumberFormatException e) {
+            throw ParseException.wrap(e);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the arguments of all occurrences of an option parsed as {@code long} values with {@link Long#parseLong(String)}, without
+     * boxing.
+     *
+     * @param optionName The short or long name of the option.
+     * @return The parsed values if the option is set, and has an argument, otherwise null.
+     * @throws ParseException if a value is not a {@code long}.
+     * @since 1.12.0
+     */
+    public long[] getLongOptionValues(final String optionName) throws ParseException {
+        return getLongOptionValues(resolveOption(optionName));
+    }
+
     /**
      * Gets the number of times this option appears in the command line
      *
@@ -250,7 +700,7 @@ public class CommandLine implements Serializable {
      * @since 1.11.0
      */
     public int getOptionCount(final Option option) {
-        return (int) options.stream().filter(opt -> Objects.equals(opt, option)).count();
+        return getOccurrences(option).size();
     }
 
     /**
@@ -306,11 +756,7 @@ public class CommandLine implements Serializable {
      */
     public Properties getOptionProperties(final Option option) {
         final Properties props = new Properties();
-        options.forEach(processedOption -> {
-            if (processedOption.equals(option)) {
-                processPropertiesFromValues(props, processedOption.getValuesList());
-            }
-        });
+        getOccurrences(option).forEach(processedOption -> processPropertiesFromValues(props, processedOption.getValuesList()));
         return props;
     }
 
@@ -326,9 +772,10 @@ public class CommandLine implements Serializable {
      */
     public Properties getOptionProperties(final String optionName) {
         final Properties props = new Properties();
-        options.forEach(option -> {
+        options.forEach(processedOption -> {
+            final Option option = processedOption.getOption();
             if (optionName.equals(option.getOpt()) || optionName.equals(option.getLongOpt())) {
-                processPropertiesFromValues(props, option.getValuesList());
+                processPropertiesFromValues(props, processedOption.getValuesList());
             }
         });
         return props;
@@ -340,7 +787,7 @@ public class CommandLine implements Serializable {
      * @return An array of the processed {@link Option}s.
      */
     public Option[] getOptions() {
-        return options.toArray(Option.EMPTY_ARRAY);
+        return options.stream().map(ParsedOption::toOption).toArray(Option[]::new);
     }
 
     /**
@@ -384,7 +831,8 @@ public class CommandLine implements Serializable {
      * @since 1.5.0
      */
     public String getOptionValue(final Option option) {
-        return first(getOptionValues(option));
+        final ParsedOption first = getFirstValuedOccurrence(option);
+        return first == null ? null : first.getValuesList().get(0);
     }
 
     /**
@@ -502,15 +950,17 @@ public class CommandLine implements Serializable {
         if (option == null) {
             return null;
         }
-        final List<String> values = new ArrayList<>();
-        options.forEach(processedOption -> {
-            if (processedOption.equals(option)) {
-                if (option.isDeprecated()) {
-                    handleDeprecated(option);
-                }
-                values.addAll(processedOption.getValuesList());
-            }
-        });
+        final List<ParsedOption> parsedOptions = getOccurrences(option);
+        if (option.isDeprecated()) {
+            parsedOptions.forEach(processedOption -> handleDeprecated(option));
+        }
+        final List<String> values;
+        if (parsedOptions.size() == 1) {
+            values = parsedOptions.get(0).getValuesList();
+        } else {
+            values = new ArrayList<>();
+            parsedOptions.forEach(processedOption -> values.addAll(processedOption.getValuesList()));
+        }
         return values.isEmpty() ? null : values.toArray(Util.EMPTY_STRING_ARRAY);
     }
 
@@ -522,10 +972,11 @@ public class CommandLine implements Serializable {
      * @since 1.9.0
      */
     public String[] getOptionValues(final OptionGroup optionGroup) {
-        if (optionGroup == null || !optionGroup.isSelected()) {
+        final String selected = getSelected(optionGroup);
+        if (selected == null) {
             return null;
         }
-        return getOptionValues(optionGroup.getSelected());
+        return getOptionValues(selected);
     }
 
     /**
@@ -612,12 +1063,20 @@ public class CommandLine implements Serializable {
         if (option == null) {
             return get(defaultValue);
         }
+        if (cacheConvertedValues) {
+            final ParsedOption first = getFirstValuedOccurrence(option);
+            try {
+                return first == null ? get(defaultValue) : (T) first.getConvertedValue(0, option.getConverter(), parseListener);
+            } catch (final Exception e) {
+                throw ParseException.wrap(e);
+            }
+        }
         final String res = getOptionValue(option);
         try {
             if (res == null) {
                 return get(defaultValue);
             }
-            return (T) option.getConverter().apply(res);
+            return (T) ParsedOption.convert(option, option.getConverter(), res, parseListener);
         } catch (final Exception e) {
             throw ParseException.wrap(e);
         }
@@ -664,10 +1123,11 @@ public class CommandLine implements Serializable {
      * @since 1.9.0
      */
     public <T> T getParsedOptionValue(final OptionGroup optionGroup, final Supplier<T> defaultValue) throws ParseException {
-        if (optionGroup == null || !optionGroup.isSelected()) {
+        final String selected = getSelected(optionGroup);
+        if (selected == null) {
             return get(defaultValue);
         }
-        return getParsedOptionValue(optionGroup.getSelected(), defaultValue);
+        return getParsedOptionValue(selected, defaultValue);
     }
 
     /**
@@ -804,6 +1264,9 @@ public class CommandLine implements Serializable {
             return get(defaultValue);
         }
         final Class<? extends T> clazz = (Class<? extends T>) option.getType();
+        if (cacheConvertedValues) {
+            return getCachedParsedOptionValues(option, clazz, defaultValue);
+        }
         final String[] values = getOptionValues(option);
         if (values == null) {
             return get(defaultValue);
@@ -811,7 +1274,7 @@ public class CommandLine implements Serializable {
         final T[] result = (T[]) Array.newInstance(clazz, values.length);
         try {
             for (int i = 0; i < values.length; i++) {
-                result[i] = clazz.cast(option.getConverter().apply(values[i]));
+                result[i] = clazz.cast(ParsedOption.convert(option, option.getConverter(), values[i], parseListener));
             }
             return result;
         } catch (final Exception t) {
@@ -860,10 +1323,11 @@ public class CommandLine implements Serializable {
      * @since 1.10.0
      */
     public <T> T[] getParsedOptionValues(final OptionGroup optionGroup, final Supplier<T[]> defaultValue) throws ParseException {
-        if (optionGroup == null || !optionGroup.isSelected()) {
+        final String selected = getSelected(optionGroup);
+        if (selected == null) {
             return get(defaultValue);
         }
-        return getParsedOptionValues(optionGroup.getSelected(), defaultValue);
+        return getParsedOptionValues(selected, defaultValue);
     }
 
     /**
@@ -925,6 +1389,129 @@ public class CommandLine implements Serializable {
         return getParsedOptionValues(resolveOption(optionName), defaultValue);
     }
 
+    /**
+     * Counts the values of occurrences of an option.
+     *
+     * @param parsedOptions The occurrences.
+     * @return The total number of values.
+     */
+    private static int countValues(final List<ParsedOption> parsedOptions) {
+        int count = 0;
+        for (final ParsedOption parsedOption : parsedOptions) {
+            count += parsedOption.getValuesList().size();
+        }
+        return count;
+    }
+
+    /**
+     * Gets the values of all occurrences of an option converted to an array, converting each value on its first read only.
+     *
+     * @param option The option.
+     * @param clazz The component type of the array.
+     * @param defaultValue The default value to return if the option is not set.
+     * @param <T> The array type for the return value.
+     * @return The values parsed into a new array of cached objects or the defaultValue if the option is not set.
+     * @throws ParseException if there are problems turning the option value into the desired type.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T[] getCachedParsedOptionValues(final Option option, final Class<? extends T> clazz, final Supplier<T[]> defaultValue)
+            throws ParseException {
+        final List<ParsedOption> parsedOptions = getValueOccurrences(option);
+        final int count = countValues(parsedOptions);
+        if (count == 0) {
+            return get(defaultValue);
+        }
+        final T[] result = (T[]) Array.newInstance(clazz, count);
+        final Converter<?, ?> converter = option.getConverter();
+        int i = 0;
+        try {
+            for (final ParsedOption parsedOption : parsedOptions) {
+                for (int j = 0; j < parsedOption.getValuesList().size(); j++) {
+                    result[i++] = clazz.cast(parsedOption.getConvertedValue(j, converter, parseListener));
+                }
+            }
+            return result;
+        } catch (final Exception e) {
+            throw ParseException.wrap(e);
+        }
+    }
+
+    /**
+     * Gets the first occurrence of an option with a value, handling deprecation like {@link #getOptionValue(Option)}.
+     *
+     * @param option The option, may be null.
+     * @return The first occurrence with a value, or null.
+     */
+    private ParsedOption getFirstValuedOccurrence(final Option option) {
+        if (option == null) {
+            return null;
+        }
+        ParsedOption first = null;
+        for (final ParsedOption processedOption : getOccurrences(option)) {
+            if (option.isDeprecated()) {
+                handleDeprecated(option);
+            }
+            if (first == null && !processedOption.isValuesEmpty()) {
+                first = processedOption;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Gets the occurrences of an option.
+     *
+     * @param option The option, may be null.
+     * @return The occurrences of the option in command line order, never null.
+     */
+    private List<ParsedOption> getOccurrences(final Option option) {
+        return getIndex().occurrences.getOrDefault(option, Collections.emptyList());
+    }
+
+    /**
+     * Gets the lookup index of the processed options, building it if needed.
+     * <p>
+     * The index is read into a local exactly once, so concurrent readers of a parsed command line either see a complete index or build their own.
+     * </p>
+     *
+     * @return The lookup index, never null.
+     */
+    private Index getIndex() {
+        Index current = index;
+        if (current == null) {
+            current = new Index(options);
+            index = current;
+        }
+        return current;
+    }
+
+    /**
+     * Gets the key of the selected option of an option group, from the selections recorded by the parser if any, otherwise from the group itself.
+     *
+     * @param optionGroup The option group.
+     * @return The key of the selected option, or null if the option group is null or not selected.
+     */
+    private String getSelected(final OptionGroup optionGroup) {
+        if (optionGroup == null) {
+            return null;
+        }
+        return selectedGroups != null ? selectedGroups.get(optionGroup) : optionGroup.getSelected();
+    }
+
+    /**
+     * Gets the occurrences of an option to read their values, handling deprecation like {@link #getOptionValues(Option)}.
+     *
+     * @param option The option, may be null.
+     * @return The occurrences of the option in command line order, never null.
+     */
+    private List<ParsedOption> getValueOccurrences(final Option option) {
+        final List<ParsedOption> parsedOptions = getOccurrences(option);
+        if (option != null && option.isDeprecated()) {
+            parsedOptions.forEach(processedOption -> handleDeprecated(option));
+        }
+        return parsedOptions;
+    }
+
     /**
      * Handles deprecated options.
      *
@@ -972,7 +1559,7 @@ public class CommandLine implements Serializable {
      * @since 1.5.0
      */
     public boolean hasOption(final Option option) {
-        final boolean result = options.contains(option);
+        final boolean result = !getOccurrences(option).isEmpty();
         if (result && option.isDeprecated()) {
             handleDeprecated(option);
         }
@@ -987,10 +1574,11 @@ public class CommandLine implements Serializable {
      * @since 1.9.0
      */
     public boolean hasOption(final OptionGroup optionGroup) {
-        if (optionGroup == null || !optionGroup.isSelected()) {
+        final String selected = getSelected(optionGroup);
+        if (selected == null) {
             return false;
         }
-        return hasOption(optionGroup.getSelected());
+        return hasOption(selected);
     }
 
     /**
@@ -1009,7 +1597,25 @@ public class CommandLine implements Serializable {
      * @return An {@code Iterator} over the processed {@link Option} members of this {@link CommandLine}.
      */
     public Iterator<Option> iterator() {
-        return options.iterator();
+        final Iterator<ParsedOption> iterator = options.iterator();
+        return new Iterator<Option>() {
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Option next() {
+                return iterator.next().toOption();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                resetIndex();
+            }
+        };
     }
 
     /**
@@ -1026,6 +1632,13 @@ public class CommandLine implements Serializable {
         }
     }
 
+    /**
+     * Resets the lookup index after a change of the processed options.
+     */
+    private void resetIndex() {
+        index = null;
+    }
+
     /**
      * Retrieves the option object given the long or short option as a String
      *
@@ -1035,9 +1648,7 @@ public class CommandLine implements Serializable {
     private Option resolveOption(final String optionName) {
         final String actual = Util.stripLeadingHyphens(optionName);
         if (actual != null) {
-            return options.stream()
-                    .filter(opt -> actual.equals(opt.getOpt()) || actual.equals(opt.getLongOpt()))
-                    .findFirst().orElse(null);
+            return getIndex().optionsByName.get(actual);
         }
         return null;
     }
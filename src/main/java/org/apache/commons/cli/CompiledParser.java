@@ -0,0 +1,244 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.apache.commons.cli.DefaultParser.NonOptionAction;
+
+/**
+ * An immutable parser bound to an {@link Options} instance, built with {@link DefaultParser.Builder#compile(Options)}.
+ * <p>
+ * Unlike a {@link DefaultParser}, a compiled parser keeps the state of a parse local to that parse and leaves its Options untouched: the options are
+ * copied to the returned {@link CommandLine}, and the option group selections are recorded in the returned {@link CommandLine} instead of calling
+ * {@link OptionGroup#setSelected(Option)}. A single instance can therefore be shared by many threads without synchronization.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * CompiledParser parser = DefaultParser.builder().setAllowPartialMatching(false).compile(options);
+ * CommandLine cmd = parser.parse(args);
+ * </pre>
+ * <p>
+ * The Options are frozen when the parser is compiled, see {@link Options#freeze()}, later changes to the given Options are not seen by the parser. The
+ * {@link Option} and {@link OptionGroup} instances are shared with the given Options and must not be modified once the parser is compiled.
+ * </p>
+ *
+ * @since 1.12.0
+ */
+public final class CompiledParser {
+
+    /** The frozen Options to parse command lines against. */
+    private final Options options;
+
+    /** Flag indicating if partial matching of long options is supported. */
+    private final boolean allowPartialMatching;
+
+    /**
+     * Flag indicating if balanced leading and trailing double quotes should be stripped from option arguments. null represents the historic arbitrary behavior
+     */
+    private final Boolean stripLeadingAndTrailingQuotes;
+
+    /** The deprecated option handler. */
+    private final Consumer<Option> deprecatedHandler;
+
+    /** Flag indicating if the parsed command lines cache the values converted by the option converters. */
+    private final boolean cacheConvertedValues;
+
+    /** Flag indicating if {@code @file} arguments are replaced by the arguments read from the file. */
+    private final boolean expandArgumentFiles;
+
+    /** The listener of the parses, or null. */
+    private final ParseListener parseListener;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param options                       The Options to parse command lines against.
+     * @param allowPartialMatching          if partial matching of long options shall be enabled.
+     * @param stripLeadingAndTrailingQuotes if balanced outer double quotes should be stripped.
+     * @param deprecatedHandler             the deprecated option handler.
+     * @param cacheConvertedValues          if the parsed command lines cache converted values.
+     * @param expandArgumentFiles           if {@code @file} arguments are expanded.
+     * @param parseListener                 the listener of the parses, or null.
+     */
+    CompiledParser(final Options options, final boolean allowPartialMatching, final Boolean stripLeadingAndTrailingQuotes,
+            final Consumer<Option> deprecatedHandler, final boolean cacheConvertedValues, final boolean expandArgumentFiles,
+            final ParseListener parseListener) {
+        this.options = Objects.requireNonNull(options, "options").freeze();
+        this.allowPartialMatching = allowPartialMatching;
+        this.stripLeadingAndTrailingQuotes = stripLeadingAndTrailingQuotes;
+        this.deprecatedHandler = deprecatedHandler;
+        this.cacheConvertedValues = cacheConvertedValues;
+        this.expandArgumentFiles = expandArgumentFiles;
+        this.parseListener = parseListener;
+    }
+
+    /**
+     * Parses the arguments, throwing an exception on unrecognized options.
+     *
+     * @param arguments The command line arguments.
+     * @return The parsed command line.
+     * @throws ParseException if there are any problems encountered while parsing the command line tokens.
+     */
+    public CommandLine parse(final String... arguments) throws ParseException {
+        return parse(null, NonOptionAction.THROW, arguments);
+    }
+
+    /**
+     * Parses the arguments and properties, throwing an exception on unrecognized options.
+     *
+     * @param properties command line option name-value pairs, may be null.
+     * @param arguments  The command line arguments.
+     * @return The parsed command line.
+     * @throws ParseException if there are any problems encountered while parsing the command line tokens.
+     */
+    public CommandLine parse(final Properties properties, final String... arguments) throws ParseException {
+        return parse(properties, NonOptionAction.THROW, arguments);
+    }
+
+    /**
+     * Parses the arguments and properties.
+     *
+     * @param properties      command line option name-value pairs, may be null.
+     * @param nonOptionAction see {@link NonOptionAction}.
+     * @param arguments       The command line arguments.
+     * @return The parsed command line.
+     * @throws ParseException if there are any problems encountered while parsing the command line tokens.
+     */
+    public CommandLine parse(final Properties properties, final NonOptionAction nonOptionAction, final String... arguments) throws ParseException {
+        return newParser().parse(options, properties, nonOptionAction, arguments);
+    }
+
+    /**
+     * Parses the arguments of an iterator and properties, reading one argument at a time, see
+     * {@link DefaultParser#parse(Options, Properties, NonOptionAction, Iterator, Consumer)}.
+     *
+     * @param properties       command line option name-value pairs, may be null.
+     * @param nonOptionAction  see {@link NonOptionAction}.
+     * @param arguments        The command line arguments.
+     * @param argumentConsumer The consumer of the arguments of the command line, or null to add them to the returned {@link CommandLine}.
+     * @return The parsed command line.
+     * @throws ParseException if there are any problems encountered while parsing the command line tokens.
+     */
+    public CommandLine parse(final Properties properties, final NonOptionAction nonOptionAction, final Iterator<String> arguments,
+            final Consumer<String> argumentConsumer) throws ParseException {
+        return newParser().parse(options, properties, nonOptionAction, arguments, argumentConsumer);
+    }
+
+    /**
+     * Parses the arguments read from a {@link Reader} and properties, reading one argument at a time, see
+     * {@link DefaultParser#parse(Options, Properties, NonOptionAction, Reader, Consumer)}.
+     *
+     * @param properties       command line option name-value pairs, may be null.
+     * @param nonOptionAction  see {@link NonOptionAction}.
+     * @param reader           The reader of the command line arguments.
+     * @param argumentConsumer The consumer of the arguments of the command line, or null to add them to the returned {@link CommandLine}.
+     * @return The parsed command line.
+     * @throws ParseException if there are any problems encountered while parsing the command line tokens.
+     * @throws IOException    if the reader throws an exception.
+     */
+    public CommandLine parse(final Properties properties, final NonOptionAction nonOptionAction, final Reader reader, final Consumer<String> argumentConsumer)
+            throws ParseException, IOException {
+        return newParser().parse(options, properties, nonOptionAction, reader, argumentConsumer);
+    }
+
+    /**
+     * Parses many command lines on an executor, throwing an exception on unrecognized options.
+     * <p>
+     * Each command line is parsed by its own task, which shares the frozen Options of this parser with the other tasks. This method waits for all the
+     * tasks to complete.
+     * </p>
+     *
+     * @param argumentsList The command lines to parse.
+     * @param executor      The executor running the parses, for example a {@link java.util.concurrent.ForkJoinPool}.
+     * @return The outcome of each parse, in the order of {@code argumentsList}.
+     * @throws RuntimeException if a parse throws an unchecked exception.
+     */
+    public List<ParseResult> parseAll(final List<String[]> argumentsList, final Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        final List<CompletableFuture<ParseResult>> futures = new ArrayList<>(argumentsList.size());
+        for (final String[] arguments : argumentsList) {
+            futures.add(CompletableFuture.supplyAsync(() -> parseResult(arguments), executor));
+        }
+        final List<ParseResult> results = new ArrayList<>(futures.size());
+        for (final CompletableFuture<ParseResult> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Maps a stream of command lines to the outcomes of their parses, throwing an exception on unrecognized options.
+     * <p>
+     * The parses run where the returned stream is consumed: a parallel stream parses on the {@link java.util.concurrent.ForkJoinPool} running its terminal
+     * operation, and an ordered stream keeps the order of {@code argumentsStream}.
+     * </p>
+     *
+     * @param argumentsStream The command lines to parse.
+     * @return The outcome of each parse.
+     */
+    public Stream<ParseResult> parseAll(final Stream<String[]> argumentsStream) {
+        return argumentsStream.map(this::parseResult);
+    }
+
+    /**
+     * Creates the parser of a single parse.
+     *
+     * @return A new parser.
+     */
+    private DefaultParser newParser() {
+        // the parser instance holds the state of this parse only
+        return new DefaultParser(allowPartialMatching, stripLeadingAndTrailingQuotes, deprecatedHandler, cacheConvertedValues, expandArgumentFiles,
+                parseListener, true);
+    }
+
+    /**
+     * Parses the arguments, catching the exception thrown on a parse failure.
+     *
+     * @param arguments The command line arguments.
+     * @return The outcome of the parse.
+     */
+    private ParseResult parseResult(final String[] arguments) {
+        try {
+            return new ParseResult(parse(arguments), null);
+        } catch (final ParseException e) {
+            return new ParseResult(null, e);
+        }
+    }
+}
@@ -22,8 +22,12 @@ import java.net.URL;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.text.ParsePosition;
-import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.Date;
 import java.util.Locale;
 
@@ -77,33 +81,47 @@ public interface Converter<T, E extends Exception> {
 
     /**
      * Converts a String to a {@link Date} using the format string Form "EEE MMM dd HH:mm:ss zzz yyyy".
+     * <p>
+     * The month and day names of the default locale and of {@link Locale#ENGLISH} are accepted. The formats are cached per thread.
+     * </p>
      */
-    Converter<Date, java.text.ParseException> DATE = s -> {
-        final String pattern = "EEE MMM dd HH:mm:ss zzz yyyy";
-        final SimpleDateFormat format = new SimpleDateFormat(pattern);
-        // reject out-of-range fields (for example "Feb 30") instead of silently rolling them over.
-        format.setLenient(false);
-        // SimpleDateFormat.parse(String) stops at the first character it cannot use and ignores any
-        // trailing text, so "<valid date> garbage" would be accepted. Parse from an explicit position
-        // and reject the value unless the whole string is consumed.
-        final ParsePosition pos = new ParsePosition(0);
-        Date date = format.parse(s, pos);
-        if (date == null) {
-            // Date.toString() always emits English month/day names, so fall back to Locale.ENGLISH
-            // when the default locale rejects the documented format. Only retry when the default
-            // locale matched nothing; a partial match is a trailing-text failure, handled below.
-            final SimpleDateFormat englishFormat = new SimpleDateFormat(pattern, Locale.ENGLISH);
-            englishFormat.setLenient(false);
-            pos.setIndex(0);
-            pos.setErrorIndex(-1);
-            date = englishFormat.parse(s, pos);
-        }
-        if (date == null || pos.getIndex() != s.length()) {
-            final int errorIndex = pos.getErrorIndex() >= 0 ? pos.getErrorIndex() : pos.getIndex();
-            throw new java.text.ParseException(String.format("Unparseable date: \"%s\"", s), errorIndex);
-        }
-        return date;
-    };
+    Converter<Date, java.text.ParseException> DATE = DateConverter::parse;
+
+    /**
+     * Converts a String to a {@link Duration}. Calls {@link Duration#parse(CharSequence)}, for example {@code PT15M}.
+     *
+     * @since 1.12.0
+     */
+    Converter<Duration, DateTimeParseException> DURATION = Duration::parse;
+
+    /**
+     * Converts a String to an {@link Instant}. Calls {@link Instant#parse(CharSequence)}, for example {@code 2002-06-06T21:48:57Z}.
+     *
+     * @since 1.12.0
+     */
+    Converter<Instant, DateTimeParseException> INSTANT = Instant::parse;
+
+    /**
+     * Converts a String to a {@link LocalDate}. Calls {@link LocalDate#parse(CharSequence)}, for example {@code 2002-06-06}.
+     *
+     * @since 1.12.0
+     */
+    Converter<LocalDate, DateTimeParseException> LOCAL_DATE = LocalDate::parse;
+
+    /**
+     * Converts a String to a {@link LocalDateTime}. Calls {@link LocalDateTime#parse(CharSequence)}, for example {@code 2002-06-06T17:48:57}.
+     *
+     * @since 1.12.0
+     */
+    Converter<LocalDateTime, DateTimeParseException> LOCAL_DATE_TIME = LocalDateTime::parse;
+
+    /**
+     * Converts a String to a {@link ZonedDateTime}. Calls {@link ZonedDateTime#parse(CharSequence)}, for example
+     * {@code 2002-06-06T17:48:57-04:00[America/New_York]}.
+     *
+     * @since 1.12.0
+     */
+    Converter<ZonedDateTime, DateTimeParseException> ZONED_DATE_TIME = ZonedDateTime::parse;
 
     /**
      * Applies the conversion function to the String argument.
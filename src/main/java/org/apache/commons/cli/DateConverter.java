@@ -0,0 +1,126 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Parses the {@link Date#toString()} format for {@link Converter#DATE} with shared formats, since {@link SimpleDateFormat} is expensive to create. The
+ * formats are not thread-safe, so each parse holds the lock of the instance that owns them.
+ * <p>
+ * The shared formats are replaced when the default locale changes, and take the default time zone on each call, so that the results are the same as with
+ * new formats.
+ * </p>
+ */
+final class DateConverter {
+
+    /** The format of {@link Date#toString()}. */
+    static final String PATTERN = "EEE MMM dd HH:mm:ss zzz yyyy";
+
+    /** The formats of the most recently used default locale, or null. */
+    private static volatile DateConverter shared;
+
+    /**
+     * Creates a strict format for {@link #PATTERN}.
+     *
+     * @param locale The locale of the format.
+     * @return A new format.
+     */
+    private static SimpleDateFormat newFormat(final Locale locale) {
+        final SimpleDateFormat format = new SimpleDateFormat(PATTERN, locale);
+        // reject out-of-range fields (for example "Feb 30") instead of silently rolling them over.
+        format.setLenient(false);
+        return format;
+    }
+
+    /**
+     * Parses a date in the format of {@link Date#toString()}, with the month and day names of the default locale or of {@link Locale#ENGLISH}.
+     *
+     * @param string The String to parse.
+     * @return The parsed date.
+     * @throws ParseException if the whole String is not a date.
+     */
+    static Date parse(final String string) throws ParseException {
+        final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        DateConverter converter = shared;
+        if (converter == null || !converter.locale.equals(locale)) {
+            converter = new DateConverter(locale);
+            shared = converter;
+        }
+        synchronized (converter) {
+            return converter.parseDate(string);
+        }
+    }
+
+    /** The locale of {@link #format}. */
+    private final Locale locale;
+
+    /** The format with the names of {@link #locale}. */
+    private final SimpleDateFormat format;
+
+    /** The format with English names, or null if {@link #locale} is English. */
+    private final SimpleDateFormat englishFormat;
+
+    /**
+     * Constructs the formats of a locale.
+     *
+     * @param locale The default locale.
+     */
+    private DateConverter(final Locale locale) {
+        this.locale = locale;
+        this.format = newFormat(locale);
+        this.englishFormat = Locale.ENGLISH.equals(locale) ? null : newFormat(Locale.ENGLISH);
+    }
+
+    /**
+     * Parses a date with the formats of this instance.
+     *
+     * @param string The String to parse.
+     * @return The parsed date.
+     * @throws ParseException if the whole String is not a date.
+     */
+    private Date parseDate(final String string) throws ParseException {
+        // parsing a zone name changes the time zone of a format, which is preferred for ambiguous names by the next parse.
+        final TimeZone timeZone = TimeZone.getDefault();
+        format.setTimeZone(timeZone);
+        // SimpleDateFormat.parse(String) stops at the first character it cannot use and ignores any
+        // trailing text, so "<valid date> garbage" would be accepted. Parse from an explicit position
+        // and reject the value unless the whole string is consumed.
+        final ParsePosition pos = new ParsePosition(0);
+        Date date = format.parse(string, pos);
+        if (date == null && englishFormat != null) {
+            // Date.toString() always emits English month/day names, so fall back to Locale.ENGLISH
+            // when the default locale rejects the documented format. Only retry when the default
+            // locale matched nothing; a partial match is a trailing-text failure, handled below.
+            englishFormat.setTimeZone(timeZone);
+            pos.setIndex(0);
+            pos.setErrorIndex(-1);
+            date = englishFormat.parse(string, pos);
+        }
+        if (date == null || pos.getIndex() != string.length()) {
+            final int errorIndex = pos.getErrorIndex() >= 0 ? pos.getErrorIndex() : pos.getIndex();
+            throw new ParseException(String.format("Unparseable date: \"%s\"", string), errorIndex);
+        }
+        return date;
+    }
+}
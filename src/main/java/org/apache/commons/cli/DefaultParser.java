@@ -17,9 +17,24 @@
 
 package org.apache.commons.cli;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.function.Consumer;
@@ -49,6 +64,15 @@ public class DefaultParser implements CommandLineParser {
         /** Flag indicating if partial matching of long options is supported. */
         private boolean allowPartialMatching = true;
 
+        /** Flag indicating if the parsed command lines cache the values converted by the option converters. */
+        private boolean cacheConvertedValues;
+
+        /** Flag indicating if {@code @file} arguments are replaced by the arguments read from the file. */
+        private boolean expandArgumentFiles;
+
+        /** The listener of the parses, or null. */
+        private ParseListener parseListener;
+
         /**
          * The deprecated option handler.
          * <p>
@@ -81,6 +105,21 @@ public class DefaultParser implements CommandLineParser {
             return get();
         }
 
+        /**
+         * Builds a {@link CompiledParser} for the given Options with the values declared by this {@link Builder}.
+         * <p>
+         * The returned parser is immutable and can be shared by many threads, see {@link CompiledParser}.
+         * </p>
+         *
+         * @param options The Options to parse command lines against.
+         * @return The new {@link CompiledParser}.
+         * @since 1.12.0
+         */
+        public CompiledParser compile(final Options options) {
+            return new CompiledParser(options, allowPartialMatching, stripLeadingAndTrailingQuotes, deprecatedHandler, cacheConvertedValues,
+                    expandArgumentFiles, parseListener);
+        }
+
         /**
          * Builds an DefaultParser with the values declared by this {@link Builder}.
          *
@@ -89,7 +128,8 @@ public class DefaultParser implements CommandLineParser {
          */
         @Override
         public DefaultParser get() {
-            return new DefaultParser(allowPartialMatching, stripLeadingAndTrailingQuotes, deprecatedHandler);
+            return new DefaultParser(allowPartialMatching, stripLeadingAndTrailingQuotes, deprecatedHandler, cacheConvertedValues,
+                    expandArgumentFiles, parseListener);
         }
 
         /**
@@ -118,6 +158,21 @@ public class DefaultParser implements CommandLineParser {
             return this;
         }
 
+        /**
+         * Sets if the parsed command lines cache the values converted by the option converters.
+         * <p>
+         * See {@link CommandLine.Builder#setCacheConvertedValues(boolean)}, converted values are not cached by default.
+         * </p>
+         *
+         * @param cacheConvertedValues whether the parsed command lines cache converted values.
+         * @return {@code this} instance.
+         * @since 1.12.0
+         */
+        public Builder setCacheConvertedValues(final boolean cacheConvertedValues) {
+            this.cacheConvertedValues = cacheConvertedValues;
+            return this;
+        }
+
         /**
          * Sets the deprecated option handler.
          *
@@ -130,6 +185,43 @@ public class DefaultParser implements CommandLineParser {
             return this;
         }
 
+        /**
+         * Sets if {@code @file} arguments are replaced by the arguments read from the file, like {@code javac} argument files.
+         * <p>
+         * An argument starting with {@code @} names a file, relative to the current directory, read with the default charset. The arguments of the file are
+         * separated by whitespace, and quotes group whitespace into an argument and are removed, like a shell does for the arguments of the command line:
+         * {@link #setStripLeadingAndTrailingQuotes(Boolean)} applies to both in the same way. Arguments starting with {@code @} in a file are not expanded.
+         * An argument starting with {@code @@} stands for the same argument without its first {@code @}. The file is read while it is parsed and is not
+         * loaded in memory first. A file that cannot be read raises a {@link ParseException}. Arguments are not expanded once parsing stops, after
+         * {@code --} or after the first non-option with {@link NonOptionAction#STOP}: they are kept as is. Argument files are not expanded by default.
+         * </p>
+         *
+         * @param expandArgumentFiles whether {@code @file} arguments are expanded.
+         * @return {@code this} instance.
+         * @since 1.12.0
+         */
+        public Builder setExpandArgumentFiles(final boolean expandArgumentFiles) {
+            this.expandArgumentFiles = expandArgumentFiles;
+            return this;
+        }
+
+        /**
+         * Sets the listener of the parses, reporting the duration and token count of each parse, the matched options, the resolved partial option names,
+         * the failures, and the conversions of the values of the parsed command lines.
+         * <p>
+         * Nothing is measured when no listener is set, which is the default.
+         * </p>
+         *
+         * @param parseListener The listener of the parses, or null.
+         * @return {@code this} instance.
+         * @see ParseStatistics
+         * @since 1.12.0
+         */
+        public Builder setParseListener(final ParseListener parseListener) {
+            this.parseListener = parseListener;
+            return this;
+        }
+
         /**
          * Sets if balanced leading and trailing double quotes should be stripped from option arguments.
          * <p>
@@ -176,6 +268,204 @@ public class DefaultParser implements CommandLineParser {
         THROW;
     }
 
+    /**
+     * The classification of a command line token, computed once per token by {@link DefaultParser#classify(String)} and consumed by
+     * {@link DefaultParser#handleToken(String)}. A single instance is reused for each token of a parse.
+     */
+    private static final class ClassifiedToken {
+
+        /**
+         * Enumerates the ways a token is handled.
+         */
+        private enum Kind {
+
+            /**
+             * An option without value: {@code -S --L -L --l -l}.
+             */
+            OPTION,
+
+            /**
+             * An option and its value: {@code --L=V -L=V --l=V -l=V -LV -SV1}, the value may be stripped of its quotes.
+             */
+            OPTION_WITH_VALUE,
+
+            /**
+             * A short option and its value: {@code -S=V}, the value is kept as is.
+             */
+            SHORT_OPTION_WITH_VALUE,
+
+            /**
+             * A Java-like property: {@code -SV1=V2}.
+             */
+            JAVA_PROPERTY,
+
+            /**
+             * Several concatenated short options: {@code -S1S2S3 -S1S2V}.
+             */
+            CONCATENATED_OPTIONS,
+
+            /**
+             * A partial long option name matching several long options.
+             */
+            AMBIGUOUS_OPTION,
+
+            /**
+             * An argument, or an unrecognized option.
+             */
+            UNKNOWN
+        }
+
+        /** How the token is handled. */
+        private Kind kind;
+
+        /** The option named by the token, or null. */
+        private Option option;
+
+        /** The index of the value in the token, or -1. */
+        private int valueStart;
+
+        /** The index of the equal sign in the token, or -1. */
+        private int equalPos;
+
+        /** The end index of the option name in the token. */
+        private int nameEnd;
+
+        /** Whether the token looks like an option, such a token is only the argument of an option if it is a number. */
+        private boolean looksLikeOption;
+
+        /** Whether the option is named by a partial long name. */
+        private boolean partialMatch;
+
+        /**
+         * Sets how the token is handled.
+         *
+         * @param kind       How the token is handled.
+         * @param option     The option named by the token, or null.
+         * @param valueStart The index of the value in the token, or -1.
+         */
+        private void set(final Kind kind, final Option option, final int valueStart) {
+            this.kind = kind;
+            this.option = option;
+            this.valueStart = valueStart;
+        }
+    }
+
+    /**
+     * The required options and groups not found yet in a parse, see {@link DefaultParser#expectedOpts}.
+     * <p>
+     * The list is a view of bitsets of ordinals, cleared as the options and groups are found, until it is first read or modified. It is then copied into a
+     * plain list, and the options and groups found are removed from the copy, so that the edits of a subclass are kept.
+     * </p>
+     */
+    private static final class ExpectedOptions extends AbstractList<Object> implements Serializable {
+
+        /** The serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The lookup tables of the Options. */
+        private final transient OptionIndex optionIndex;
+
+        /** The ordinals of the required options not found yet. */
+        private final transient long[] missingOptions;
+
+        /** The ordinals of the required option groups not found yet. */
+        private final transient long[] missingGroups;
+
+        /** The copy of the expected options and groups once the list is read or modified, otherwise null. */
+        private List<Object> list;
+
+        /**
+         * Constructs the list of all the required options and groups.
+         *
+         * @param optionIndex The lookup tables of the Options.
+         */
+        private ExpectedOptions(final OptionIndex optionIndex) {
+            this.optionIndex = optionIndex;
+            this.missingOptions = optionIndex.getRequiredOptions().clone();
+            this.missingGroups = optionIndex.getRequiredGroups().clone();
+        }
+
+        @Override
+        public void add(final int index, final Object element) {
+            list().add(index, element);
+            modCount++;
+        }
+
+        @Override
+        public Object get(final int index) {
+            return list().get(index);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return list == null ? OptionIndex.isEmpty(missingOptions) && OptionIndex.isEmpty(missingGroups) : list.isEmpty();
+        }
+
+        /**
+         * Gets the copy of the expected options and groups, making it if needed.
+         *
+         * @return The copy of the expected options and groups.
+         */
+        private List<Object> list() {
+            if (list == null) {
+                list = optionIndex.getMissing(missingOptions, missingGroups);
+            }
+            return list;
+        }
+
+        @Override
+        public Object remove(final int index) {
+            final Object removed = list().remove(index);
+            modCount++;
+            return removed;
+        }
+
+        /**
+         * Removes a required option group found in the command line.
+         *
+         * @param groupOrdinal The ordinal of the group.
+         */
+        private void removeGroup(final int groupOrdinal) {
+            if (list == null) {
+                OptionIndex.clearBit(missingGroups, groupOrdinal);
+            } else {
+                list.remove(optionIndex.getGroup(groupOrdinal));
+            }
+        }
+
+        /**
+         * Removes a required option found in the command line.
+         *
+         * @param ordinal The ordinal of the option.
+         */
+        private void removeOption(final int ordinal) {
+            if (list == null) {
+                OptionIndex.clearBit(missingOptions, ordinal);
+            } else {
+                list.remove(optionIndex.getOption(ordinal).getKey());
+            }
+        }
+
+        @Override
+        public Object set(final int index, final Object element) {
+            return list().set(index, element);
+        }
+
+        @Override
+        public int size() {
+            return list().size();
+        }
+
+        /**
+         * Serializes the list as a plain list.
+         *
+         * @return A copy of this list.
+         */
+        private Object writeReplace() {
+            return new ArrayList<>(this);
+        }
+    }
+
     /**
      * Creates a new {@link Builder} to create an {@link DefaultParser} using descriptive methods.
      *
@@ -218,10 +508,16 @@ public class DefaultParser implements CommandLineParser {
     /** The last option parsed. */
     protected Option currentOption;
 
+    /** The occurrence of the last option parsed, holding the values of {@link #currentOption} for this command line. */
+    private ParsedOption currentParsedOption;
+
     /** Flag indicating if tokens should no longer be analyzed and simply added as arguments of the command line. */
     protected boolean skipParsing;
 
-    /** The required options and groups expected to be found when parsing the command line. */
+    /** The consumer of the arguments of the current parse, or null to add them to the command line. */
+    private Consumer<String> argumentConsumer;
+
+    /** The required options and groups expected to be found when parsing the command line, removed as they are found. */
     // This can contain either a String (addOption) or an OptionGroup (addOptionGroup)
     // TODO this seems wrong
     protected List expectedOpts;
@@ -242,6 +538,36 @@ public class DefaultParser implements CommandLineParser {
      */
     private final Consumer<Option> deprecatedHandler;
 
+    /** Flag indicating if the parsed command lines cache the values converted by the option converters. */
+    private final boolean cacheConvertedValues;
+
+    /** Flag indicating if {@code @file} arguments are replaced by the arguments read from the file. */
+    private final boolean expandArgumentFiles;
+
+    /** The listener of the parses, or null. */
+    private final ParseListener parseListener;
+
+    /** The number of tokens handled by the current parse. */
+    private int tokenCount;
+
+    /**
+     * Flag indicating if the Options must be left untouched while parsing even when they are not frozen, the option group selections are then recorded in
+     * {@link #selectedGroups} instead of the option groups.
+     */
+    private final boolean readOnlyOptions;
+
+    /** The option group selections of the current parse when the Options are read-only or frozen, otherwise null. */
+    private Map<OptionGroup, String> selectedGroups;
+
+    /** The lookup tables of the Options of the current parse. */
+    private OptionIndex optionIndex;
+
+    /** The ordinals of the option groups with a selected option in the current parse. */
+    private long[] selectedGroupOrdinals;
+
+    /** The classification of the current token. */
+    private final ClassifiedToken classifiedToken = new ClassifiedToken();
+
     /**
      * Creates a new DefaultParser instance with partial matching enabled.
      * <p>
@@ -263,6 +589,10 @@ public class DefaultParser implements CommandLineParser {
         this.allowPartialMatching = true;
         this.stripLeadingAndTrailingQuotes = null;
         this.deprecatedHandler = CommandLine.Builder.DEPRECATED_HANDLER;
+        this.cacheConvertedValues = false;
+        this.expandArgumentFiles = false;
+        this.parseListener = null;
+        this.readOnlyOptions = false;
     }
 
     /**
@@ -289,6 +619,25 @@ public class DefaultParser implements CommandLineParser {
         this.allowPartialMatching = allowPartialMatching;
         this.stripLeadingAndTrailingQuotes = null;
         this.deprecatedHandler = CommandLine.Builder.DEPRECATED_HANDLER;
+        this.cacheConvertedValues = false;
+        this.expandArgumentFiles = false;
+        this.parseListener = null;
+        this.readOnlyOptions = false;
+    }
+
+    /**
+     * Creates a new DefaultParser instance with the specified partial matching and quote stripping policy.
+     *
+     * @param allowPartialMatching          if partial matching of long options shall be enabled.
+     * @param stripLeadingAndTrailingQuotes if balanced outer double quoutes should be stripped.
+     * @param deprecatedHandler             the deprecated option handler.
+     * @param cacheConvertedValues          if the parsed command lines cache converted values.
+     * @param expandArgumentFiles           if {@code @file} arguments are expanded.
+     * @param parseListener                 the listener of the parses, or null.
+     */
+    private DefaultParser(final boolean allowPartialMatching, final Boolean stripLeadingAndTrailingQuotes, final Consumer<Option> deprecatedHandler,
+            final boolean cacheConvertedValues, final boolean expandArgumentFiles, final ParseListener parseListener) {
+        this(allowPartialMatching, stripLeadingAndTrailingQuotes, deprecatedHandler, cacheConvertedValues, expandArgumentFiles, parseListener, false);
     }
 
     /**
@@ -296,29 +645,43 @@ public class DefaultParser implements CommandLineParser {
      *
      * @param allowPartialMatching          if partial matching of long options shall be enabled.
      * @param stripLeadingAndTrailingQuotes if balanced outer double quoutes should be stripped.
+     * @param deprecatedHandler             the deprecated option handler.
+     * @param cacheConvertedValues          if the parsed command lines cache converted values.
+     * @param expandArgumentFiles           if {@code @file} arguments are expanded.
+     * @param parseListener                 the listener of the parses, or null.
+     * @param readOnlyOptions               if the Options must be left untouched while parsing.
      */
-    private DefaultParser(final boolean allowPartialMatching, final Boolean stripLeadingAndTrailingQuotes, final Consumer<Option> deprecatedHandler) {
+    DefaultParser(final boolean allowPartialMatching, final Boolean stripLeadingAndTrailingQuotes, final Consumer<Option> deprecatedHandler,
+            final boolean cacheConvertedValues, final boolean expandArgumentFiles, final ParseListener parseListener, final boolean readOnlyOptions) {
         this.allowPartialMatching = allowPartialMatching;
         this.stripLeadingAndTrailingQuotes = stripLeadingAndTrailingQuotes;
         this.deprecatedHandler = deprecatedHandler;
+        this.cacheConvertedValues = cacheConvertedValues;
+        this.expandArgumentFiles = expandArgumentFiles;
+        this.parseListener = parseListener;
+        this.readOnlyOptions = readOnlyOptions;
     }
 
     /**
-     * Adds token to command line {@link CommandLine#addArg(String)}.
+     * Adds token to command line {@link CommandLine#addArg(String)}, or passes it to the argument consumer of the current parse if any.
      *
      * @param token The unrecognized option/argument.
      * @since 1.10.0
      */
     protected void addArg(final String token) {
-        cmd.addArg(token);
+        if (argumentConsumer != null) {
+            argumentConsumer.accept(token);
+        } else {
+            cmd.addArg(token);
+        }
     }
 
     /**
      * Throws a {@link MissingArgumentException} if the current option didn't receive the number of arguments expected.
      */
     private void checkRequiredArgs() throws ParseException {
-        if (currentOption != null && currentOption.requiresArg()) {
-            if (isJavaProperty(currentOption.getKey()) && currentOption.getValuesList().size() == 1) {
+        if (currentParsedOption != null && currentParsedOption.requiresArg()) {
+            if (isJavaProperty(currentOption.getKey()) && currentParsedOption.getValuesList().size() == 1) {
                 return;
             }
             throw new MissingArgumentException(currentOption);
@@ -337,23 +700,122 @@ public class DefaultParser implements CommandLineParser {
         }
     }
 
+    /**
+     * Classifies a token in a single pass over the option lookups, filling {@link #classifiedToken}.
+     *
+     * @param token The command line token to classify.
+     */
+    private void classify(final String token) {
+        final ClassifiedToken classified = classifiedToken;
+        classified.set(ClassifiedToken.Kind.UNKNOWN, null, -1);
+        classified.equalPos = -1;
+        classified.nameEnd = token.length();
+        classified.looksLikeOption = false;
+        classified.partialMatch = false;
+        if (token.length() < 2 || !token.startsWith(OptionFormatter.DEFAULT_OPT_PREFIX)) {
+            return;
+        }
+        final int pos = indexOfEqual(token);
+        final int end = pos == -1 ? token.length() : pos;
+        final boolean singleHyphen = !token.startsWith(OptionFormatter.DEFAULT_LONG_OPT_PREFIX);
+        classified.equalPos = pos;
+        classified.nameEnd = end;
+        // long or partial long options (--L, -L, --L=V, -L=V, --l, --l=V)
+        final int matchCount = countMatchingLongOptions(token, end);
+        // short options (-S, -SV, -S=V, -SV1=V2), the hyphens after the first one are ignored like in Options.hasShortOption(String)
+        final Option shortOption = options.getShortOption(token, 1 + Util.leadingHyphens(token, 1), end);
+        // several concatenated short options (-S1S2)
+        final Option firstShortOption = singleHyphen && end > 1 ? options.getShortOption(token, 1, 2) : null;
+        // a long option followed by its value (-LV)
+        final String longPrefix = singleHyphen && matchCount == 0 && shortOption == null && (pos == -1 || firstShortOption == null) ? getLongPrefix(token)
+                : null;
+        classified.looksLikeOption = matchCount > 0 || shortOption != null || firstShortOption != null || longPrefix != null;
+        if (!singleHyphen) {
+            // --L --L=V --l --l=V
+            classifyLongOption(token, pos, end, matchCount);
+        } else if (pos == -1 && shortOption != null) {
+            // -S or a short option with a longer name
+            classified.set(ClassifiedToken.Kind.OPTION, shortOption, -1);
+        } else if (token.length() == 2) {
+            // -S is not an option
+            return;
+        } else if (pos == -1 && matchCount > 0) {
+            // -L or -l
+            classifyLongOption(token, pos, end, matchCount);
+        } else if (pos == -1) {
+            final Option prefixOption = longPrefix != null ? options.getOption(longPrefix) : null;
+            final Option firstOption = options.getOption(token, 1, 2);
+            if (prefixOption != null && prefixOption.acceptsArg()) {
+                // -LV (-Xmx512m)
+                classified.set(ClassifiedToken.Kind.OPTION_WITH_VALUE, prefixOption, 1 + longPrefix.length());
+            } else if (isJavaProperty(firstOption)) {
+                // -SV1 (-Dflag)
+                classified.set(ClassifiedToken.Kind.OPTION_WITH_VALUE, firstOption, 2);
+            } else {
+                // -S1S2S3 or -S1S2V
+                classified.set(ClassifiedToken.Kind.CONCATENATED_OPTIONS, null, -1);
+            }
+        } else if (pos == 2) {
+            // -S=V
+            final Option option = options.getOption(token, 1, 2);
+            if (option != null && option.acceptsArg()) {
+                classified.set(ClassifiedToken.Kind.SHORT_OPTION_WITH_VALUE, option, pos + 1);
+            }
+        } else if (pos > 2 && isJavaProperty(options.getOption(token, 1, 2))) {
+            // -SV1=V2 (-Dkey=value)
+            classified.set(ClassifiedToken.Kind.JAVA_PROPERTY, options.getOption(token, 1, 2), 2);
+        } else {
+            // -L=V or -l=V
+            classifyLongOption(token, pos, end, matchCount);
+        }
+    }
+
+    /**
+     * Classifies a token naming a long option, or a partial long option name when partial matching is enabled.
+     *
+     * @param token      The command line token to classify.
+     * @param pos        The index of the equal sign in the token, or -1.
+     * @param end        The end index of the option name in the token.
+     * @param matchCount The number of long options matching the name.
+     */
+    private void classifyLongOption(final String token, final int pos, final int end, final int matchCount) {
+        if (matchCount > 1) {
+            classifiedToken.set(ClassifiedToken.Kind.AMBIGUOUS_OPTION, null, -1);
+        } else if (matchCount == 1) {
+            final String longOpt = options.getMatchingOption(token, end);
+            final Option option = options.getOption(longOpt);
+            classifiedToken.partialMatch = end - Util.leadingHyphens(token) != longOpt.length();
+            if (pos == -1) {
+                classifiedToken.set(ClassifiedToken.Kind.OPTION, option, -1);
+            } else if (option.acceptsArg()) {
+                classifiedToken.set(ClassifiedToken.Kind.OPTION_WITH_VALUE, option, pos + 1);
+            }
+        }
+    }
+
     /**
      * Searches for a prefix that is the long name of an option (-Xmx512m).
      *
      * @param token The command line token to test.
      */
     private String getLongPrefix(final String token) {
-        final String t = Util.stripLeadingHyphens(token);
-        int i;
-        String opt = null;
-        for (i = t.length() - 2; i > 1; i--) {
-            final String prefix = t.substring(0, i);
-            if (options.hasLongOption(prefix)) {
-                opt = prefix;
-                break;
-            }
+        final int start = Util.leadingHyphens(token);
+        // the prefix is at least 2 characters long and leaves at least 2 characters for the value
+        return options.getLongOptTrie().longestPrefix(token, start, start + 2, token.length() - 2);
+    }
+
+    /**
+     * Counts the matching option strings for the start of the given token, depending on the selected partial matching policy.
+     *
+     * @param token The token (may contain leading dashes).
+     * @param end   The end index of the option string in the token.
+     * @return The number of matching option strings.
+     */
+    private int countMatchingLongOptions(final String token, final int end) {
+        if (allowPartialMatching) {
+            return options.getMatchingOptionCount(token, end);
         }
-        return opt;
+        return options.getLongOptTrie().contains(token, Util.leadingHyphens(token), end) ? 1 : 0;
     }
 
     /**
@@ -373,6 +835,98 @@ public class DefaultParser implements CommandLineParser {
         return matches;
     }
 
+    /**
+     * Gets the ordinal of the group of an option.
+     *
+     * @param option The option.
+     * @return The ordinal of the group, or -1 for an option outside any group.
+     */
+    private int getGroupOrdinal(final Option option) {
+        final int ordinal = optionIndex.getOrdinal(option.getKey());
+        return ordinal == -1 ? -1 : optionIndex.getGroupOrdinal(ordinal);
+    }
+
+    /**
+     * Gets the key of the option selected in an option group during the current parse.
+     *
+     * @param optionGroup The option group.
+     * @return The key of the selected option, or null if no option of the group has been selected.
+     */
+    private String getSelected(final OptionGroup optionGroup) {
+        return selectedGroups != null ? selectedGroups.get(optionGroup) : optionGroup.getSelected();
+    }
+
+    /**
+     * Handles the arguments of an argument file, reading them one at a time.
+     *
+     * @param fileName The name of the argument file.
+     * @throws ParseException if the file cannot be read or if there are any problems encountered while parsing its arguments.
+     */
+    private void handleArgumentFile(final String fileName) throws ParseException {
+        try (Reader reader = Channels.newReader(FileChannel.open(Paths.get(fileName)), Charset.defaultCharset().newDecoder(), -1)) {
+            final ArgumentTokenizer tokenizer = new ArgumentTokenizer(reader);
+            while (true) {
+                final String token;
+                try {
+                    if (!tokenizer.hasNext()) {
+                        break;
+                    }
+                    token = tokenizer.next();
+                } catch (final UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                handleToken(token);
+            }
+        } catch (final IOException | InvalidPathException e) {
+            final ParseException parseException = new ParseException("Cannot read argument file '" + fileName + "': " + e.getMessage());
+            parseException.initCause(e);
+            throw parseException;
+        }
+    }
+
+    /**
+     * Handles a token that is not the argument of the current option, as classified by {@link #classify(String)}.
+     *
+     * @param token The command line token to handle.
+     * @throws ParseException if parsing should fail.
+     */
+    private void handleClassifiedToken(final String token) throws ParseException {
+        final ClassifiedToken classified = classifiedToken;
+        if (parseListener != null && classified.partialMatch && classified.option != null) {
+            parseListener.partialMatchResolved(token, classified.option);
+        }
+        switch (classified.kind) {
+        case OPTION:
+            handleOption(classified.option);
+            break;
+        case OPTION_WITH_VALUE:
+            handleOption(classified.option);
+            currentParsedOption.processValue(stripLeadingAndTrailingQuotesDefaultOff(token.substring(classified.valueStart)));
+            setCurrentOption(null);
+            break;
+        case SHORT_OPTION_WITH_VALUE:
+            handleOption(classified.option);
+            currentParsedOption.processValue(token.substring(classified.valueStart));
+            setCurrentOption(null);
+            break;
+        case JAVA_PROPERTY:
+            handleOption(classified.option);
+            currentParsedOption.processValue(token.substring(classified.valueStart, classified.equalPos));
+            currentParsedOption.processValue(token.substring(classified.equalPos + 1));
+            setCurrentOption(null);
+            break;
+        case CONCATENATED_OPTIONS:
+            handleConcatenatedOptions(token);
+            break;
+        case AMBIGUOUS_OPTION:
+            final String opt = token.substring(0, classified.nameEnd);
+            throw new AmbiguousOptionException(opt, getMatchingLongOptions(opt));
+        default:
+            handleUnknownToken(token);
+            break;
+        }
+    }
+
     /**
      * Breaks {@code token} into its constituent parts using the following algorithm.
      * <ul>
@@ -392,96 +946,30 @@ public class DefaultParser implements CommandLineParser {
      */
     protected void handleConcatenatedOptions(final String token) throws ParseException {
         for (int i = 1; i < token.length(); i++) {
-            final String ch = String.valueOf(token.charAt(i));
-            if (!options.hasOption(ch)) {
+            final Option option = options.getOption(token, i, i + 1);
+            if (option == null) {
                 handleUnknownToken(nonOptionAction == NonOptionAction.STOP && i > 1 ? token.substring(i) : token);
                 break;
             }
-            handleOption(options.getOption(ch));
-            if (currentOption != null && token.length() != i + 1) {
+            handleOption(option);
+            if (currentParsedOption != null && token.length() != i + 1) {
                 // add the trail as an argument of the option
-                currentOption.processValue(stripLeadingAndTrailingQuotesDefaultOff(token.substring(i + 1)));
+                currentParsedOption.processValue(stripLeadingAndTrailingQuotesDefaultOff(token.substring(i + 1)));
                 break;
             }
         }
     }
 
-    /**
-     * Handles the following tokens:
-     *
-     * <pre>
-     * --L --L=V --L V --l
-     * </pre>
-     *
-     * @param token The command line token to handle.
-     */
-    private void handleLongOption(final String token) throws ParseException {
-        if (indexOfEqual(token) == -1) {
-            handleLongOptionWithoutEqual(token);
-        } else {
-            handleLongOptionWithEqual(token);
-        }
-    }
-
-    /**
-     * Handles the following tokens:
-     *
-     * <pre>
-     * --L=V -L=V --l=V -l=V
-     * </pre>
-     *
-     * @param token The command line token to handle.
-     */
-    private void handleLongOptionWithEqual(final String token) throws ParseException {
-        final int pos = indexOfEqual(token);
-        final String value = token.substring(pos + 1);
-        final String opt = token.substring(0, pos);
-        final List<String> matchingOpts = getMatchingLongOptions(opt);
-        if (matchingOpts.isEmpty()) {
-            handleUnknownToken(currentToken);
-        } else if (matchingOpts.size() > 1 && !options.hasLongOption(opt)) {
-            throw new AmbiguousOptionException(opt, matchingOpts);
-        } else {
-            final String key = options.hasLongOption(opt) ? opt : matchingOpts.get(0);
-            final Option option = options.getOption(key);
-            if (option.acceptsArg()) {
-                handleOption(option);
-                currentOption.processValue(stripLeadingAndTrailingQuotesDefaultOff(value));
-                currentOption = null;
-            } else {
-                handleUnknownToken(currentToken);
-            }
-        }
-    }
-
-    /**
-     * Handles the following tokens:
-     *
-     * <pre>
-     * --L -L --l -l
-     * </pre>
-     *
-     * @param token The command line token to handle.
-     */
-    private void handleLongOptionWithoutEqual(final String token) throws ParseException {
-        final List<String> matchingOpts = getMatchingLongOptions(token);
-        if (matchingOpts.isEmpty()) {
-            handleUnknownToken(currentToken);
-        } else if (matchingOpts.size() > 1 && !options.hasLongOption(token)) {
-            throw new AmbiguousOptionException(token, matchingOpts);
-        } else {
-            final String key = options.hasLongOption(token) ? token : matchingOpts.get(0);
-            handleOption(options.getOption(key));
-        }
-    }
-
     private void handleOption(final Option option) throws ParseException {
         // check the previous option before handling the next one
         checkRequiredArgs();
-        final Option copy = (Option) option.clone();
-        updateRequiredOptions(copy);
-        cmd.addOption(copy);
-        currentOption = copy.hasArg() ? copy : null;
+        final ParsedOption parsedOption = new ParsedOption(option);
+        if (parseListener != null) {
+            parseListener.optionMatched(option);
+        }
+        updateRequiredOptions(option);
+        cmd.addParsedOption(parsedOption);
+        setCurrentOption(option.hasArg() ? parsedOption : null);
     }
 
     /**
@@ -500,93 +988,22 @@ public class DefaultParser implements CommandLineParser {
                 throw new UnrecognizedOptionException("Default option wasn't defined", option);
             }
             // if the option is part of a group, check if another option of the group has been selected
-            final OptionGroup optionGroup = options.getOptionGroup(opt);
-            final boolean selected = optionGroup != null && optionGroup.isSelected();
+            final int groupOrdinal = getGroupOrdinal(opt);
+            final boolean selected = groupOrdinal != -1 && OptionIndex.isSet(selectedGroupOrdinals, groupOrdinal);
             if (!cmd.hasOption(option) && !selected) {
                 // get the value from the properties
                 final String value = properties.getProperty(option);
                 if (opt.hasArg()) {
-                    if (opt.isValuesEmpty()) {
-                        opt.processValue(stripLeadingAndTrailingQuotesDefaultOff(value));
+                    // set the value on the occurrence added to the command line, not on the option of the Options
+                    handleOption(opt);
+                    if (currentParsedOption.isValuesEmpty()) {
+                        currentParsedOption.processValue(stripLeadingAndTrailingQuotesDefaultOff(value));
                     }
-                } else if (!("yes".equalsIgnoreCase(value) || "true".equalsIgnoreCase(value) || "1".equalsIgnoreCase(value))) {
-                    // if the value is not yes, true or 1 then don't add the option to the CommandLine
-                    continue;
-                }
-                handleOption(opt);
-                currentOption = null;
-            }
-        }
-    }
-
-    /**
-     * Handles the following tokens:
-     *
-     * <pre>
-     * -S -SV -S V -S=V -S1S2 -S1S2 V -SV1=V2
-     *
-     * -L -LV -L V -L=V -l
-     * </pre>
-     *
-     * @param hyphenToken The command line token to handle.
-     */
-    private void handleShortAndLongOption(final String hyphenToken) throws ParseException {
-        final String token = Util.stripLeadingHyphens(hyphenToken);
-        final int pos = indexOfEqual(token);
-        if (token.length() == 1) {
-            // -S
-            if (options.hasShortOption(token)) {
-                handleOption(options.getOption(token));
-            } else {
-                handleUnknownToken(hyphenToken);
-            }
-        } else if (pos == -1) {
-            // no equal sign found (-xxx)
-            if (options.hasShortOption(token)) {
-                handleOption(options.getOption(token));
-            } else if (!getMatchingLongOptions(token).isEmpty()) {
-                // -L or -l
-                handleLongOptionWithoutEqual(hyphenToken);
-            } else {
-                // look for a long prefix (-Xmx512m)
-                final String opt = getLongPrefix(token);
-                if (opt != null && options.getOption(opt).acceptsArg()) {
-                    handleOption(options.getOption(opt));
-                    currentOption.processValue(stripLeadingAndTrailingQuotesDefaultOff(token.substring(opt.length())));
-                    currentOption = null;
-                } else if (isJavaProperty(token)) {
-                    // -SV1 (-Dflag)
-                    handleOption(options.getOption(token.substring(0, 1)));
-                    currentOption.processValue(stripLeadingAndTrailingQuotesDefaultOff(token.substring(1)));
-                    currentOption = null;
-                } else {
-                    // -S1S2S3 or -S1S2V
-                    handleConcatenatedOptions(hyphenToken);
-                }
-            }
-        } else {
-            // equal sign found (-xxx=yyy)
-            final String opt = token.substring(0, pos);
-            final String value = token.substring(pos + 1);
-            if (opt.length() == 1) {
-                // -S=V
-                final Option option = options.getOption(opt);
-                if (option != null && option.acceptsArg()) {
-                    handleOption(option);
-                    currentOption.processValue(value);
-                    currentOption = null;
-                } else {
-                    handleUnknownToken(hyphenToken);
+                } else if ("yes".equalsIgnoreCase(value) || "true".equalsIgnoreCase(value) || "1".equalsIgnoreCase(value)) {
+                    handleOption(opt);
                 }
-            } else if (isJavaProperty(opt)) {
-                // -SV1=V2 (-Dkey=value)
-                handleOption(options.getOption(opt.substring(0, 1)));
-                currentOption.processValue(opt.substring(1));
-                currentOption.processValue(value);
-                currentOption = null;
-            } else {
-                // -L=V or -l=V
-                handleLongOptionWithEqual(hyphenToken);
+                // if the value is not yes, true or 1 then don't add the option to the CommandLine
+                setCurrentOption(null);
             }
         }
     }
@@ -599,22 +1016,22 @@ public class DefaultParser implements CommandLineParser {
      */
     private void handleToken(final String token) throws ParseException {
         if (token != null) {
+            tokenCount++;
             currentToken = token;
             if (skipParsing) {
                 addArg(token);
             } else if (OptionFormatter.DEFAULT_LONG_OPT_PREFIX.equals(token)) {
                 skipParsing = true;
-            } else if (currentOption != null && currentOption.acceptsArg() && isArgument(token)) {
-                currentOption.processValue(stripLeadingAndTrailingQuotesDefaultOn(token));
-            } else if (token.startsWith(OptionFormatter.DEFAULT_LONG_OPT_PREFIX)) {
-                handleLongOption(token);
-            } else if (token.startsWith(OptionFormatter.DEFAULT_OPT_PREFIX) && !OptionFormatter.DEFAULT_OPT_PREFIX.equals(token)) {
-                handleShortAndLongOption(token);
             } else {
-                handleUnknownToken(token);
+                classify(token);
+                if (currentParsedOption != null && currentParsedOption.acceptsArg() && (!classifiedToken.looksLikeOption || isNegativeNumber(token))) {
+                    currentParsedOption.processValue(stripLeadingAndTrailingQuotesDefaultOn(token));
+                } else {
+                    handleClassifiedToken(token);
+                }
             }
-            if (currentOption != null && !currentOption.acceptsArg()) {
-                currentOption = null;
+            if (currentParsedOption != null && !currentParsedOption.acceptsArg()) {
+                setCurrentOption(null);
             }
         }
     }
@@ -640,46 +1057,22 @@ public class DefaultParser implements CommandLineParser {
         }
     }
 
-    /**
-     * Tests if the token is a valid argument.
-     *
-     * @param token The command line token to test.
-     */
-    private boolean isArgument(final String token) {
-        return !isOption(token) || isNegativeNumber(token);
-    }
-
     /**
      * Tests if the specified token is a Java-like property (-Dkey=value).
      *
      * @param token The command line token to test.
      */
     private boolean isJavaProperty(final String token) {
-        final String opt = token.isEmpty() ? null : token.substring(0, 1);
-        final Option option = options.getOption(opt);
-        return option != null && (option.getArgs() >= 2 || option.getArgs() == Option.UNLIMITED_VALUES);
+        return isJavaProperty(token.isEmpty() ? null : options.getOption(token, 0, 1));
     }
 
     /**
-     * Tests if the token looks like a long option.
+     * Tests if the specified option takes Java-like properties (-Dkey=value).
      *
-     * @param token The command line token to test.
+     * @param option The option named by the first character of the token, may be null.
      */
-    private boolean isLongOption(final String token) {
-        if (token == null || !token.startsWith(OptionFormatter.DEFAULT_OPT_PREFIX) || token.length() == 1) {
-            return false;
-        }
-        final int pos = indexOfEqual(token);
-        final String t = pos == -1 ? token : token.substring(0, pos);
-        if (!getMatchingLongOptions(t).isEmpty()) {
-            // long or partial long options (--L, -L, --L=V, -L=V, --l, --l=V)
-            return true;
-        }
-        if (getLongPrefix(token) != null && !token.startsWith(OptionFormatter.DEFAULT_LONG_OPT_PREFIX)) {
-            // -LV
-            return true;
-        }
-        return false;
+    private boolean isJavaProperty(final Option option) {
+        return option != null && (option.getArgs() >= 2 || option.getArgs() == Option.UNLIMITED_VALUES);
     }
 
     /**
@@ -688,69 +1081,101 @@ public class DefaultParser implements CommandLineParser {
      * @param token The command line token to test.
      */
     private boolean isNegativeNumber(final String token) {
-        try {
-            Double.parseDouble(token);
-            return true;
-        } catch (final NumberFormatException e) {
-            return false;
-        }
+        return Util.isDouble(token);
     }
 
     /**
-     * Tests if the token looks like an option.
+     * Parses the arguments according to the specified options and properties.
      *
-     * @param token The command line token to test.
+     * @param options         The specified Options.
+     * @param properties      command line option name-value pairs.
+     * @param nonOptionAction see {@link NonOptionAction}.
+     * @param arguments       The command line arguments.
+     * @return The list of atomic option and value tokens.
+     * @throws ParseException if there are any problems encountered while parsing the command line tokens.
+     * @since 1.10.0
      */
-    private boolean isOption(final String token) {
-        return isLongOption(token) || isShortOption(token);
+    public CommandLine parse(final Options options, final Properties properties, final NonOptionAction nonOptionAction, final String... arguments)
+            throws ParseException {
+        return parse(options, properties, nonOptionAction, arguments != null ? Arrays.asList(arguments).iterator() : Collections.emptyIterator(), null);
     }
 
     /**
-     * Tests if the token looks like a short option.
+     * Parses the arguments of an iterator according to the specified options and properties, reading one argument at a time.
+     * <p>
+     * The arguments of the command line are passed to {@code argumentConsumer} as soon as they are parsed, instead of being added to the returned
+     * {@link CommandLine}, so that the memory used by a parse does not grow with the number of arguments. A {@link java.util.Spliterator} can be parsed
+     * through {@link java.util.Spliterators#iterator(java.util.Spliterator)}.
+     * </p>
      *
-     * @param token The command line token to test.
+     * @param options          The specified Options.
+     * @param properties       command line option name-value pairs, may be null.
+     * @param nonOptionAction  see {@link NonOptionAction}.
+     * @param arguments        The command line arguments, not null.
+     * @param argumentConsumer The consumer of the arguments of the command line, or null to add them to the returned {@link CommandLine}.
+     * @return The parsed command line.
+     * @throws ParseException if there are any problems encountered while parsing the command line tokens.
+     * @since 1.12.0
      */
-    private boolean isShortOption(final String token) {
-        // short options (-S, -SV, -S=V, -SV1=V2, -S1S2)
-        if (token == null || !token.startsWith(OptionFormatter.DEFAULT_OPT_PREFIX) || token.length() == 1) {
-            return false;
+    public CommandLine parse(final Options options, final Properties properties, final NonOptionAction nonOptionAction, final Iterator<String> arguments,
+            final Consumer<String> argumentConsumer) throws ParseException {
+        Objects.requireNonNull(arguments, "arguments");
+        if (parseListener == null) {
+            return parseArguments(options, properties, nonOptionAction, arguments, argumentConsumer);
         }
-        // remove leading "-" and "=value"
-        final int pos = indexOfEqual(token);
-        final String optName = pos == -1 ? token.substring(1) : token.substring(1, pos);
-        if (options.hasShortOption(optName)) {
-            return true;
+        final long start = System.nanoTime();
+        try {
+            final CommandLine commandLine = parseArguments(options, properties, nonOptionAction, arguments, argumentConsumer);
+            parseListener.parseCompleted(tokenCount, System.nanoTime() - start);
+            return commandLine;
+        } catch (final ParseException e) {
+            parseListener.parseFailed(e, tokenCount, System.nanoTime() - start);
+            throw e;
         }
-        // check for several concatenated short options
-        return !optName.isEmpty() && options.hasShortOption(String.valueOf(optName.charAt(0)));
     }
 
     /**
-     * Parses the arguments according to the specified options and properties.
+     * Parses the arguments according to the specified options and properties, see
+     * {@link #parse(Options, Properties, NonOptionAction, Iterator, Consumer)}.
      *
-     * @param options         The specified Options.
-     * @param properties      command line option name-value pairs.
-     * @param nonOptionAction see {@link NonOptionAction}.
-     * @param arguments       The command line arguments.
-     * @return The list of atomic option and value tokens.
+     * @param options          The specified Options.
+     * @param properties       command line option name-value pairs, may be null.
+     * @param nonOptionAction  see {@link NonOptionAction}.
+     * @param arguments        The command line arguments.
+     * @param argumentConsumer The consumer of the arguments of the command line, or null to add them to the returned {@link CommandLine}.
+     * @return The parsed command line.
      * @throws ParseException if there are any problems encountered while parsing the command line tokens.
-     * @since 1.10.0
      */
-    public CommandLine parse(final Options options, final Properties properties, final NonOptionAction nonOptionAction, final String... arguments)
-            throws ParseException {
+    private CommandLine parseArguments(final Options options, final Properties properties, final NonOptionAction nonOptionAction,
+            final Iterator<String> arguments, final Consumer<String> argumentConsumer) throws ParseException {
         this.options = Objects.requireNonNull(options, "options");
         this.nonOptionAction = nonOptionAction;
+        this.argumentConsumer = argumentConsumer;
         skipParsing = false;
-        currentOption = null;
-        expectedOpts = new ArrayList<>(options.getRequiredOptions());
-        // clear the data from the groups
-        for (final OptionGroup optionGroup : options.getOptionGroups()) {
-            optionGroup.setSelected(null);
-        }
-        cmd = CommandLine.builder().setDeprecatedHandler(deprecatedHandler).get();
-        if (arguments != null) {
-            for (final String argument : arguments) {
+        tokenCount = 0;
+        setCurrentOption(null);
+        optionIndex = options.getIndex();
+        expectedOpts = new ExpectedOptions(optionIndex);
+        selectedGroupOrdinals = OptionIndex.newBitset(optionIndex.getGroupCount());
+        if (readOnlyOptions || options.isFrozen()) {
+            selectedGroups = new HashMap<>();
+        } else {
+            // clear the data from the groups
+            selectedGroups = null;
+            for (int i = 0; i < optionIndex.getGroupCount(); i++) {
+                optionIndex.getGroup(i).setSelected(null);
+            }
+        }
+        cmd = CommandLine.builder().setDeprecatedHandler(deprecatedHandler).setCacheConvertedValues(cacheConvertedValues).setSelectedGroups(selectedGroups)
+                .setParseListener(parseListener).get();
+        while (arguments.hasNext()) {
+            final String argument = arguments.next();
+            if (!expandArgumentFiles || skipParsing || argument == null || argument.length() < 2 || argument.charAt(0) != '@') {
                 handleToken(argument);
+            } else if (argument.charAt(1) == '@') {
+                handleToken(argument.substring(1));
+            } else {
+                handleArgumentFile(argument.substring(1));
             }
         }
         // check the arguments of the last option
@@ -761,6 +1186,33 @@ public class DefaultParser implements CommandLineParser {
         return cmd;
     }
 
+    /**
+     * Parses the arguments read from a {@link Reader} according to the specified options and properties, reading one argument at a time.
+     * <p>
+     * The arguments are separated by whitespace, and quotes group whitespace into an argument, see {@link ArgumentTokenizer}. The reader is not closed.
+     * The arguments of the command line are passed to {@code argumentConsumer} as soon as they are parsed, see
+     * {@link #parse(Options, Properties, NonOptionAction, Iterator, Consumer)}.
+     * </p>
+     *
+     * @param options          The specified Options.
+     * @param properties       command line option name-value pairs, may be null.
+     * @param nonOptionAction  see {@link NonOptionAction}.
+     * @param reader           The reader of the command line arguments, not null.
+     * @param argumentConsumer The consumer of the arguments of the command line, or null to add them to the returned {@link CommandLine}.
+     * @return The parsed command line.
+     * @throws ParseException if there are any problems encountered while parsing the command line tokens.
+     * @throws IOException    if the reader throws an exception.
+     * @since 1.12.0
+     */
+    public CommandLine parse(final Options options, final Properties properties, final NonOptionAction nonOptionAction, final Reader reader,
+            final Consumer<String> argumentConsumer) throws ParseException, IOException {
+        try {
+            return parse(options, properties, nonOptionAction, new ArgumentTokenizer(Objects.requireNonNull(reader, "reader")), argumentConsumer);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
     @Override
     public CommandLine parse(final Options options, final String[] arguments) throws ParseException {
         return parse(options, arguments, null);
@@ -812,6 +1264,40 @@ public class DefaultParser implements CommandLineParser {
         return parse(options, properties, stopAtNonOption ? NonOptionAction.STOP : NonOptionAction.THROW, arguments);
     }
 
+    /**
+     * Selects an option of an option group for the current parse.
+     *
+     * @param groupOrdinal The ordinal of the option group.
+     * @param option The option to select.
+     * @throws AlreadySelectedException if another option of the group has already been selected.
+     */
+    private void setSelected(final int groupOrdinal, final Option option) throws AlreadySelectedException {
+        final OptionGroup optionGroup = optionIndex.getGroup(groupOrdinal);
+        if (OptionIndex.isSet(selectedGroupOrdinals, groupOrdinal)) {
+            final String selected = getSelected(optionGroup);
+            if (!selected.equals(option.getKey())) {
+                throw new AlreadySelectedException(optionGroup, option, selected);
+            }
+            return;
+        }
+        OptionIndex.setBit(selectedGroupOrdinals, groupOrdinal);
+        if (selectedGroups == null) {
+            optionGroup.setSelected(option);
+        } else {
+            selectedGroups.put(optionGroup, option.getKey());
+        }
+    }
+
+    /**
+     * Sets the last option parsed and its occurrence.
+     *
+     * @param parsedOption The occurrence of the last option parsed, or null.
+     */
+    private void setCurrentOption(final ParsedOption parsedOption) {
+        currentParsedOption = parsedOption;
+        currentOption = parsedOption != null ? parsedOption.getOption() : null;
+    }
+
     /**
      * Strips balanced leading and trailing quotes if the stripLeadingAndTrailingQuotes is set If stripLeadingAndTrailingQuotes is null, then do not strip
      *
@@ -844,16 +1330,31 @@ public class DefaultParser implements CommandLineParser {
      * @param option The option to remove from the list of expected elements.
      */
     private void updateRequiredOptions(final Option option) throws AlreadySelectedException {
+        final int ordinal = optionIndex.getOrdinal(option.getKey());
+        // a subclass may have replaced the list of expected elements
+        final ExpectedOptions expected = expectedOpts instanceof ExpectedOptions ? (ExpectedOptions) expectedOpts : null;
         if (option.isRequired()) {
-            expectedOpts.remove(option.getKey());
+            if (expected != null && ordinal != -1) {
+                expected.removeOption(ordinal);
+            } else {
+                expectedOpts.remove(option.getKey());
+            }
+        }
+        if (ordinal == -1) {
+            return;
         }
         // if the option is in an OptionGroup make that option the selected option of the group
-        if (options.getOptionGroup(option) != null) {
-            final OptionGroup optionGroup = options.getOptionGroup(option);
+        final int groupOrdinal = optionIndex.getGroupOrdinal(ordinal);
+        if (groupOrdinal != -1) {
+            final OptionGroup optionGroup = optionIndex.getGroup(groupOrdinal);
             if (optionGroup.isRequired()) {
-                expectedOpts.remove(optionGroup);
+                if (expected != null) {
+                    expected.removeGroup(groupOrdinal);
+                } else {
+                    expectedOpts.remove(optionGroup);
+                }
             }
-            optionGroup.setSelected(option);
+            setSelected(groupOrdinal, option);
         }
     }
 }
@@ -0,0 +1,218 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+
+package org.apache.commons.cli;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A read-only {@link ListIterator} over the tokens of a {@link Parser}, flattening the arguments one at a time as the tokens are consumed instead of
+ * flattening all the arguments into an array before parsing.
+ * <p>
+ * Only one step back with {@link #previous()} is supported, which is what {@link Parser#processArgs(Option, ListIterator)} needs. A
+ * {@link ParseException} of the {@link Flattener} is thrown by {@link #hasNext()} and {@link #next()} as an {@link UncheckedParseException}.
+ * </p>
+ */
+final class FlatteningIterator implements ListIterator<String> {
+
+    /**
+     * Flattens one argument.
+     */
+    @FunctionalInterface
+    interface Flattener {
+
+        /**
+         * Flattens an argument, adding its tokens to the list of tokens of the iterator.
+         *
+         * @param argument The argument, may be null.
+         * @return whether the remaining arguments are tokens as they are.
+         * @throws ParseException if the argument cannot be flattened.
+         */
+        boolean flatten(String argument) throws ParseException;
+    }
+
+    /**
+     * Wraps a {@link ParseException} of the {@link Flattener}.
+     */
+    static final class UncheckedParseException extends RuntimeException {
+
+        /** The serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructs a new instance.
+         *
+         * @param cause The ParseException.
+         */
+        UncheckedParseException(final ParseException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized ParseException getCause() {
+            return (ParseException) super.getCause();
+        }
+    }
+
+    /** The arguments to flatten. */
+    private final String[] arguments;
+
+    /** The tokens of the last flattened argument, filled by {@link #flattener}. */
+    private final List<String> tokens;
+
+    /** Flattens one argument into {@link #tokens}. */
+    private final Flattener flattener;
+
+    /** The index of the next argument to flatten. */
+    private int argumentIndex;
+
+    /** The index of the next token in {@link #tokens}. */
+    private int tokenIndex;
+
+    /** Whether the remaining arguments are tokens as they are. */
+    private boolean rawArguments;
+
+    /** The last token returned by {@link #next()}. */
+    private String last;
+
+    /** Whether {@link #previous()} has stepped back over {@link #last}. */
+    private boolean steppedBack;
+
+    /** The number of tokens returned by {@link #next()} and not stepped back over. */
+    private int index;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param arguments The arguments to flatten.
+     * @param tokens The list the flattener adds the tokens of an argument to.
+     * @param flattener Flattens one argument.
+     */
+    FlatteningIterator(final String[] arguments, final List<String> tokens, final Flattener flattener) {
+        this.arguments = arguments;
+        this.tokens = tokens;
+        this.flattener = flattener;
+        tokens.clear();
+    }
+
+    @Override
+    public void add(final String token) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Flattens the next argument, stopping the iteration if the flattener fails.
+     */
+    private void flattenNext() {
+        tokens.clear();
+        tokenIndex = 0;
+        final String argument = arguments[argumentIndex++];
+        try {
+            rawArguments = flattener.flatten(argument);
+        } catch (final ParseException e) {
+            argumentIndex = arguments.length;
+            throw new UncheckedParseException(e);
+        } catch (final RuntimeException e) {
+            argumentIndex = arguments.length;
+            throw e;
+        }
+    }
+
+    /**
+     * Flattens the remaining arguments, discarding their tokens, so that a parse failure reports the exception flattening all the arguments before parsing
+     * would have thrown.
+     *
+     * @throws ParseException if an argument cannot be flattened.
+     */
+    void flattenRemaining() throws ParseException {
+        try {
+            while (!rawArguments && argumentIndex < arguments.length) {
+                flattenNext();
+            }
+        } catch (final UncheckedParseException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!steppedBack && tokenIndex == tokens.size()) {
+            if (argumentIndex == arguments.length) {
+                return false;
+            }
+            if (rawArguments) {
+                return true;
+            }
+            flattenNext();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return !steppedBack && index > 0;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (steppedBack) {
+            steppedBack = false;
+        } else if (tokenIndex < tokens.size()) {
+            last = tokens.get(tokenIndex++);
+        } else {
+            last = arguments[argumentIndex++];
+        }
+        index++;
+        return last;
+    }
+
+    @Override
+    public int nextIndex() {
+        return index;
+    }
+
+    @Override
+    public String previous() {
+        if (!hasPrevious()) {
+            throw new NoSuchElementException();
+        }
+        steppedBack = true;
+        index--;
+        return last;
+    }
+
+    @Override
+    public int previousIndex() {
+        return index - 1;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(final String token) {
+        throw new UnsupportedOperationException();
+    }
+}
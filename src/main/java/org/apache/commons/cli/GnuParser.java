@@ -56,43 +56,63 @@ public class GnuParser extends Parser {
     protected String[] flatten(final Options options, final String[] arguments, final boolean stopAtNonOption) {
         final List<String> tokens = new ArrayList<>();
         boolean eatTheRest = false;
-        for (int i = 0; i < arguments.length; i++) {
-            final String arg = arguments[i];
-            if (arg != null) {
-                if (OptionFormatter.DEFAULT_LONG_OPT_PREFIX.equals(arg)) {
-                    eatTheRest = true;
-                    tokens.add(OptionFormatter.DEFAULT_LONG_OPT_PREFIX);
-                } else if (OptionFormatter.DEFAULT_OPT_PREFIX.equals(arg)) {
-                    tokens.add(OptionFormatter.DEFAULT_OPT_PREFIX);
-                } else if (arg.startsWith(OptionFormatter.DEFAULT_OPT_PREFIX)) {
-                    final String opt = Util.stripLeadingHyphens(arg);
-                    if (options.hasOption(opt)) {
-                        tokens.add(arg);
-                    } else {
-                        final int equalPos = DefaultParser.indexOfEqual(opt);
-                        if (equalPos != -1 && options.hasOption(opt.substring(0, equalPos))) {
-                            // the format is --foo=value or -foo=value
-                            tokens.add(arg.substring(0, arg.indexOf(Char.EQUAL))); // --foo
-                            tokens.add(arg.substring(arg.indexOf(Char.EQUAL) + 1)); // value
-                        } else if (options.hasOption(arg.substring(0, 2))) {
-                            // the format is a special properties option (-Dproperty=value)
-                            tokens.add(arg.substring(0, 2)); // -D
-                            tokens.add(arg.substring(2)); // property=value
-                        } else {
-                            eatTheRest = stopAtNonOption;
-                            tokens.add(arg);
-                        }
-                    }
+        for (final String arg : arguments) {
+            if (eatTheRest) {
+                tokens.add(arg);
+            } else {
+                eatTheRest = flattenArgument(options, arg, stopAtNonOption, tokens);
+            }
+        }
+        return tokens.toArray(Util.EMPTY_STRING_ARRAY);
+    }
+
+    /**
+     * Flattens one argument into the processed tokens list, see {@link #flatten(Options, String[], boolean)}.
+     *
+     * @param options The Options to parse the arguments by.
+     * @param arg The argument, may be null.
+     * @param stopAtNonOption specifies whether to stop flattening when a non option has been encountered.
+     * @param tokens The processed tokens list.
+     * @return whether the remaining arguments are added to the processed tokens list as they are.
+     */
+    private static boolean flattenArgument(final Options options, final String arg, final boolean stopAtNonOption, final List<String> tokens) {
+        if (arg == null) {
+            return false;
+        }
+        if (OptionFormatter.DEFAULT_LONG_OPT_PREFIX.equals(arg)) {
+            tokens.add(OptionFormatter.DEFAULT_LONG_OPT_PREFIX);
+            return true;
+        }
+        if (OptionFormatter.DEFAULT_OPT_PREFIX.equals(arg)) {
+            tokens.add(OptionFormatter.DEFAULT_OPT_PREFIX);
+        } else if (arg.startsWith(OptionFormatter.DEFAULT_OPT_PREFIX)) {
+            final String opt = Util.stripLeadingHyphens(arg);
+            if (options.hasOption(opt)) {
+                tokens.add(arg);
+            } else {
+                final int equalPos = DefaultParser.indexOfEqual(opt);
+                if (equalPos != -1 && options.hasOption(opt.substring(0, equalPos))) {
+                    // the format is --foo=value or -foo=value
+                    tokens.add(arg.substring(0, arg.indexOf(Char.EQUAL))); // --foo
+                    tokens.add(arg.substring(arg.indexOf(Char.EQUAL) + 1)); // value
+                } else if (options.hasOption(arg.substring(0, 2))) {
+                    // the format is a special properties option (-Dproperty=value)
+                    tokens.add(arg.substring(0, 2)); // -D
+                    tokens.add(arg.substring(2)); // property=value
                 } else {
                     tokens.add(arg);
-                }
-                if (eatTheRest) {
-                    for (i++; i < arguments.length; i++) { // NOPMD
-                        tokens.add(arguments[i]);
-                    }
+                    return stopAtNonOption;
                 }
             }
+        } else {
+            tokens.add(arg);
         }
-        return tokens.toArray(Util.EMPTY_STRING_ARRAY);
+        return false;
+    }
+
+    @Override
+    FlatteningIterator flatteningIterator(final Options options, final String[] arguments, final boolean stopAtNonOption) {
+        final List<String> tokens = new ArrayList<>();
+        return new FlatteningIterator(arguments, tokens, arg -> flattenArgument(options, arg, stopAtNonOption, tokens));
     }
 }
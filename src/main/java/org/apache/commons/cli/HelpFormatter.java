@@ -25,12 +25,13 @@ import java.io.StringReader;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -861,8 +862,8 @@ public class HelpFormatter {
     public void printUsage(final PrintWriter pw, final int width, final String app, final Options options) {
         // initialize the string buffer
         final StringBuilder buff = new StringBuilder(getSyntaxPrefix()).append(app).append(Char.SP);
-        // create a list for processed option groups
-        final Collection<OptionGroup> processedGroups = new ArrayList<>();
+        // create a set for processed option groups
+        final Set<OptionGroup> processedGroups = Collections.newSetFromMap(new IdentityHashMap<>());
         final List<Option> optList = new ArrayList<>(options.getOptions());
         if (getOptionComparator() != null) {
             Collections.sort(optList, getOptionComparator());
@@ -875,10 +876,8 @@ public class HelpFormatter {
             final OptionGroup group = options.getOptionGroup(option);
             // if the option is part of a group
             if (group != null) {
-                // and if the group has not already been processed
-                if (!processedGroups.contains(group)) {
-                    // add the group to the processed list
-                    processedGroups.add(group);
+                // and if the group has not already been processed, add it to the processed groups
+                if (processedGroups.add(group)) {
                     // add the usage clause
                     appendOptionGroup(buff, group);
                 }
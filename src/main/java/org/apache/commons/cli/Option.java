@@ -113,6 +113,26 @@ public class Option implements Cloneable, Serializable {
             option(option);
         }
 
+        /**
+         * Constructs a new {@code Builder} with the attributes of an Option, taking its name as is since it has been validated when the Option was created.
+         *
+         * @param option The Option to copy.
+         */
+        private Builder(final Option option) {
+            this.argCount = option.argCount;
+            this.argName = option.argName;
+            this.converter = option.converter;
+            this.deprecated = option.deprecated;
+            this.description = option.description;
+            this.longOption = option.longOption;
+            this.option = option.option;
+            this.optionalArg = option.optionalArg;
+            this.required = option.required;
+            this.since = option.since;
+            this.type = option.type;
+            this.valueSeparator = option.valueSeparator;
+        }
+
         /**
          * Sets the display name for the argument value.
          *
@@ -505,21 +525,17 @@ public class Option implements Cloneable, Serializable {
      * @since 1.3
      */
     boolean acceptsArg() {
-        return (hasArg() || hasArgs() || hasOptionalArg()) && (argCount <= 0 || values.size() < argCount);
+        return acceptsArg(values);
     }
 
     /**
-     * Adds the value to this Option. If the number of arguments is greater than zero and there is enough space in the list then add the value. Otherwise, throw
-     * a runtime exception.
+     * Tests whether the option can accept more arguments given its current values.
      *
-     * @param value The value to be added to this Option.
+     * @param values The current values of the option.
+     * @return false if the maximum number of arguments is reached.
      */
-    private void add(final String value) {
-        if (!acceptsArg()) {
-            throw new IllegalArgumentException("Cannot add value, list full.");
-        }
-        // store value
-        values.add(value);
+    boolean acceptsArg(final List<String> values) {
+        return (hasArg() || hasArgs() || hasOptionalArg()) && (argCount <= 0 || values.size() < argCount);
     }
 
     /**
@@ -564,6 +580,22 @@ public class Option implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Creates a copy of this Option holding the given values instead of a copy of its own values.
+     *
+     * @param values The values of the copy.
+     * @return A copy of this Option.
+     */
+    Option copy(final List<String> values) {
+        try {
+            final Option option = (Option) super.clone();
+            option.values = values;
+            return option;
+        } catch (final CloneNotSupportedException e) {
+            throw new UnsupportedOperationException(e.getMessage(), e);
+        }
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -836,16 +868,27 @@ public class Option implements Cloneable, Serializable {
     }
 
     /**
-     * Processes the value. If this Option has a value separator the value will have to be parsed into individual tokens. When n-1 tokens have been processed
-     * and there are more value separators in the value, parsing is ceased and the remaining characters are added as a single token.
+     * Processes the value like {@link #processValue(String)}, returning false instead of throwing an exception when this Option rejects the value.
+     * <p>
+     * When the value is split at the value separator, the parts added before the rejection are kept, as they are by {@link #processValue(String)}.
+     * </p>
+     *
+     * @param value The String to be processed, may be null.
+     * @return false if this Option takes no argument, the value is null or the list of values is full.
+     */
+    boolean offerValue(final String value) {
+        return argCount != UNINITIALIZED && value != null && offerValue(values, value);
+    }
+
+    /**
+     * Adds the value to the given values of this Option, split at the value separator if any, while there is enough space in the list.
      *
+     * @param values The values of this Option.
      * @param value The String to be processed.
+     * @return false if the list of values is full before the last part of the value is added.
      */
-    void processValue(final String value) {
-        if (argCount == UNINITIALIZED) {
-            throw new IllegalStateException("NO_ARGS_ALLOWED");
-        }
-        String add = Objects.requireNonNull(value, "value");
+    private boolean offerValue(final List<String> values, final String value) {
+        String add = value;
         // this Option has a separator character
         if (hasValueSeparator()) {
             // get the separator character
@@ -859,7 +902,10 @@ public class Option implements Cloneable, Serializable {
                     break;
                 }
                 // store
-                add(add.substring(0, index));
+                if (!acceptsArg(values)) {
+                    return false;
+                }
+                values.add(add.substring(0, index));
                 // parse
                 add = add.substring(index + 1);
                 // get new index
@@ -867,7 +913,36 @@ public class Option implements Cloneable, Serializable {
             }
         }
         // store the actual value or the last value that has been parsed
-        add(add);
+        if (!acceptsArg(values)) {
+            return false;
+        }
+        values.add(add);
+        return true;
+    }
+
+    /**
+     * Processes the value. If this Option has a value separator the value will have to be parsed into individual tokens. When n-1 tokens have been processed
+     * and there are more value separators in the value, parsing is ceased and the remaining characters are added as a single token.
+     *
+     * @param value The String to be processed.
+     */
+    void processValue(final String value) {
+        processValue(values, value);
+    }
+
+    /**
+     * Processes the value into the given values of this Option, see {@link #processValue(String)}.
+     *
+     * @param values The values of this Option.
+     * @param value The String to be processed.
+     */
+    void processValue(final List<String> values, final String value) {
+        if (argCount == UNINITIALIZED) {
+            throw new IllegalStateException("NO_ARGS_ALLOWED");
+        }
+        if (!offerValue(values, Objects.requireNonNull(value, "value"))) {
+            throw new IllegalArgumentException("Cannot add value, list full.");
+        }
     }
 
     /**
@@ -876,10 +951,20 @@ public class Option implements Cloneable, Serializable {
      * @return false if the option doesn't require more arguments.
      */
     boolean requiresArg() {
+        return requiresArg(values);
+    }
+
+    /**
+     * Tests whether the option requires more arguments to be valid given its current values.
+     *
+     * @param values The current values of the option.
+     * @return false if the option doesn't require more arguments.
+     */
+    boolean requiresArg(final List<String> values) {
         if (optionalArg) {
             return false;
         }
-        return argCount == UNLIMITED_VALUES ? values.isEmpty() : acceptsArg();
+        return argCount == UNLIMITED_VALUES ? values.isEmpty() : acceptsArg(values);
     }
 
     /**
@@ -997,6 +1082,20 @@ public class Option implements Cloneable, Serializable {
         return buf.toString();
     }
 
+    /**
+     * Returns a {@link Builder} initialized with the attributes of this Option, except its values.
+     * <p>
+     * The name of this Option is not validated again, so deriving many options from an existing descriptor skips the validation of their names unless
+     * {@link Builder#option(String)} sets a new one.
+     * </p>
+     *
+     * @return A new {@link Builder} instance.
+     * @since 1.12.0
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
     /**
      * Creates a String suitable for debugging.
      *
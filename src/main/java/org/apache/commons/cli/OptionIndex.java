@@ -0,0 +1,315 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The lookup tables of an {@link Options}: the short and long option names as prefix trees, a table of the single-character ASCII short options, and
+ * dense ordinals for the options and option groups with the required ones as bitsets.
+ * <p>
+ * A mutable {@link Options} builds an instance on demand and drops it when an option is added, a frozen {@link Options} builds it once. Instances are
+ * immutable once built.
+ * </p>
+ */
+final class OptionIndex {
+
+    /** The number of ASCII characters. */
+    static final int ASCII = 128;
+
+    /** The number of bits in a bitset word. */
+    private static final int WORD_SIZE = Long.SIZE;
+
+    /**
+     * Adds a group to a list.
+     *
+     * @param groupList The list.
+     * @param group     The group to add.
+     * @return The index of the group in the list.
+     */
+    private static Integer add(final List<OptionGroup> groupList, final OptionGroup group) {
+        groupList.add(group);
+        return groupList.size() - 1;
+    }
+
+    /**
+     * Clears a bit of a bitset.
+     *
+     * @param bitset The bitset.
+     * @param index  The index of the bit.
+     */
+    static void clearBit(final long[] bitset, final int index) {
+        bitset[index / WORD_SIZE] &= ~(1L << index);
+    }
+
+    /**
+     * Tests whether a bitset has no bit set.
+     *
+     * @param bitset The bitset.
+     * @return whether no bit is set.
+     */
+    static boolean isEmpty(final long[] bitset) {
+        for (final long word : bitset) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tests a bit of a bitset.
+     *
+     * @param bitset The bitset.
+     * @param index  The index of the bit.
+     * @return whether the bit is set.
+     */
+    static boolean isSet(final long[] bitset, final int index) {
+        return (bitset[index / WORD_SIZE] & 1L << index) != 0;
+    }
+
+    /**
+     * Creates an empty bitset.
+     *
+     * @param size The number of bits.
+     * @return A new bitset.
+     */
+    static long[] newBitset(final int size) {
+        return new long[(size + WORD_SIZE - 1) / WORD_SIZE];
+    }
+
+    /**
+     * Sets a bit of a bitset.
+     *
+     * @param bitset The bitset.
+     * @param index  The index of the bit.
+     */
+    static void setBit(final long[] bitset, final int index) {
+        bitset[index / WORD_SIZE] |= 1L << index;
+    }
+
+    /** The short option names. */
+    private final OptionTrie shortNames;
+
+    /** The long option names. */
+    private final OptionTrie longNames;
+
+    /** The short options with a single-character ASCII name, by character. */
+    private final Option[] asciiShortOptions = new Option[ASCII];
+
+    /** The options, by ordinal. */
+    private final Option[] options;
+
+    /** The ordinals of the options, by key. */
+    private final Map<String, Integer> ordinals;
+
+    /** The option groups, by ordinal. */
+    private final OptionGroup[] groups;
+
+    /** The ordinal of the group of each option, by option ordinal, -1 for an option outside any group. */
+    private final int[] groupOrdinals;
+
+    /** The ordinals of the required options. */
+    private final long[] requiredOptions;
+
+    /** The ordinals of the required option groups. */
+    private final long[] requiredGroups;
+
+    /** The keys of the required options and the required option groups, in the order of {@link Options#getRequiredOptions()}. */
+    private final Object[] required;
+
+    /** The ordinals of the elements of {@link #required}, option ordinals for keys and group ordinals for groups. */
+    private final int[] requiredOrdinals;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param shortOpts    The options by key.
+     * @param longOpts     The options by long name.
+     * @param requiredOpts The keys of the required options and the required option groups.
+     * @param optionGroups The option groups by option key.
+     */
+    OptionIndex(final Map<String, Option> shortOpts, final Map<String, Option> longOpts, final List<Object> requiredOpts,
+            final Map<String, OptionGroup> optionGroups) {
+        shortNames = new OptionTrie(shortOpts.keySet());
+        longNames = new OptionTrie(longOpts.keySet());
+        options = shortOpts.values().toArray(new Option[0]);
+        ordinals = new HashMap<>(shortOpts.size() * 2);
+        for (int i = 0; i < options.length; i++) {
+            ordinals.put(options[i].getKey(), i);
+        }
+        shortOpts.forEach((key, option) -> {
+            if (key.length() == 1 && key.charAt(0) < ASCII) {
+                asciiShortOptions[key.charAt(0)] = option;
+            }
+        });
+        // a required group may have no option
+        final Map<OptionGroup, Integer> groupIndex = new IdentityHashMap<>();
+        final List<OptionGroup> groupList = new ArrayList<>();
+        optionGroups.values().forEach(group -> groupIndex.computeIfAbsent(group, g -> add(groupList, g)));
+        requiredOpts.stream().filter(OptionGroup.class::isInstance).forEach(group -> groupIndex.computeIfAbsent((OptionGroup) group, g -> add(groupList, g)));
+        groups = groupList.toArray(new OptionGroup[0]);
+        groupOrdinals = new int[options.length];
+        for (int i = 0; i < options.length; i++) {
+            final OptionGroup group = optionGroups.get(options[i].getKey());
+            groupOrdinals[i] = group == null ? -1 : groupIndex.get(group);
+        }
+        requiredOptions = newBitset(options.length);
+        requiredGroups = newBitset(groups.length);
+        required = requiredOpts.toArray();
+        requiredOrdinals = new int[required.length];
+        for (int i = 0; i < required.length; i++) {
+            if (required[i] instanceof OptionGroup) {
+                requiredOrdinals[i] = groupIndex.get(required[i]);
+                setBit(requiredGroups, requiredOrdinals[i]);
+            } else {
+                requiredOrdinals[i] = ordinals.get(required[i]);
+                setBit(requiredOptions, requiredOrdinals[i]);
+            }
+        }
+    }
+
+    /**
+     * Gets the short option with a single-character ASCII name.
+     *
+     * @param ch The name, an ASCII character.
+     * @return The option, or null.
+     */
+    Option getAsciiShortOption(final char ch) {
+        return asciiShortOptions[ch];
+    }
+
+    /**
+     * Gets an option group.
+     *
+     * @param ordinal The ordinal of the group.
+     * @return The option group.
+     */
+    OptionGroup getGroup(final int ordinal) {
+        return groups[ordinal];
+    }
+
+    /**
+     * Gets the number of option groups.
+     *
+     * @return The number of option groups.
+     */
+    int getGroupCount() {
+        return groups.length;
+    }
+
+    /**
+     * Gets the ordinal of the group of an option.
+     *
+     * @param ordinal The ordinal of the option.
+     * @return The ordinal of the group, or -1 for an option outside any group.
+     */
+    int getGroupOrdinal(final int ordinal) {
+        return groupOrdinals[ordinal];
+    }
+
+    /**
+     * Gets the long option names.
+     *
+     * @return The long option names as a prefix tree.
+     */
+    OptionTrie getLongNames() {
+        return longNames;
+    }
+
+    /**
+     * Gets the required options and groups left in the given bitsets.
+     *
+     * @param missingOptions The ordinals of the required options not found.
+     * @param missingGroups  The ordinals of the required groups not found.
+     * @return The keys of the missing options and the missing groups, in the order of {@link Options#getRequiredOptions()}.
+     */
+    List<Object> getMissing(final long[] missingOptions, final long[] missingGroups) {
+        final List<Object> missing = new ArrayList<>();
+        if (isEmpty(missingOptions) && isEmpty(missingGroups)) {
+            return missing;
+        }
+        for (int i = 0; i < required.length; i++) {
+            if (isSet(required[i] instanceof OptionGroup ? missingGroups : missingOptions, requiredOrdinals[i])) {
+                missing.add(required[i]);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Gets an option.
+     *
+     * @param ordinal The ordinal of the option.
+     * @return The option.
+     */
+    Option getOption(final int ordinal) {
+        return options[ordinal];
+    }
+
+    /**
+     * Gets the number of options.
+     *
+     * @return The number of options.
+     */
+    int getOptionCount() {
+        return options.length;
+    }
+
+    /**
+     * Gets the ordinal of an option.
+     *
+     * @param key The key of the option.
+     * @return The ordinal, or -1 if no option has this key.
+     */
+    int getOrdinal(final String key) {
+        final Integer ordinal = ordinals.get(key);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * Gets the ordinals of the required option groups, the bitset must not be modified.
+     *
+     * @return The ordinals of the required option groups.
+     */
+    long[] getRequiredGroups() {
+        return requiredGroups;
+    }
+
+    /**
+     * Gets the ordinals of the required options, the bitset must not be modified.
+     *
+     * @return The ordinals of the required options.
+     */
+    long[] getRequiredOptions() {
+        return requiredOptions;
+    }
+
+    /**
+     * Gets the short option names.
+     *
+     * @return The short option names as a prefix tree.
+     */
+    OptionTrie getShortNames() {
+        return shortNames;
+    }
+}
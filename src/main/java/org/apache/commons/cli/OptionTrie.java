@@ -0,0 +1,271 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A prefix tree of option names answering exact, unique prefix and ambiguous prefix queries in time proportional to the length of the queried name.
+ * <p>
+ * Queries take a character range so that callers can skip leading hyphens without creating substrings. Only the listing of the names matching an
+ * ambiguous prefix allocates.
+ * </p>
+ * <p>
+ * Instances are not thread-safe while names are added, and safe to share once built.
+ * </p>
+ */
+final class OptionTrie {
+
+    /**
+     * A node of the tree, reached by the characters of a prefix.
+     */
+    private static final class Node {
+
+        /** The sorted characters leading to the children. */
+        private char[] chars = EMPTY_CHARS;
+
+        /** The children, in the order of {@link #chars}. */
+        private Node[] children = EMPTY_NODES;
+
+        /** The name ending at this node, or null. */
+        private String name;
+
+        /** The insertion rank of {@link #name}. */
+        private int rank;
+
+        /** The number of names in the subtree rooted at this node. */
+        private int count;
+
+        /** A name of the subtree rooted at this node, the only one when {@link #count} is 1. */
+        private String anyName;
+
+        /**
+         * Gets the child reached by a character.
+         *
+         * @param ch The character.
+         * @return The child, or null.
+         */
+        private Node child(final char ch) {
+            final int i = Arrays.binarySearch(chars, ch);
+            return i < 0 ? null : children[i];
+        }
+
+        /**
+         * Gets the child reached by a character, adding it if needed.
+         *
+         * @param ch The character.
+         * @return The child.
+         */
+        private Node childOrNew(final char ch) {
+            int i = Arrays.binarySearch(chars, ch);
+            if (i < 0) {
+                i = -i - 1;
+                final int length = chars.length;
+                final char[] newChars = new char[length + 1];
+                final Node[] newChildren = new Node[length + 1];
+                System.arraycopy(chars, 0, newChars, 0, i);
+                System.arraycopy(children, 0, newChildren, 0, i);
+                System.arraycopy(chars, i, newChars, i + 1, length - i);
+                System.arraycopy(children, i, newChildren, i + 1, length - i);
+                newChars[i] = ch;
+                newChildren[i] = new Node();
+                chars = newChars;
+                children = newChildren;
+            }
+            return children[i];
+        }
+
+        /**
+         * Counts a name added to the subtree rooted at this node.
+         *
+         * @param added The added name.
+         */
+        private void countName(final String added) {
+            count++;
+            if (anyName == null) {
+                anyName = added;
+            }
+        }
+
+        /**
+         * Collects the nodes holding a name in the subtree rooted at this node.
+         *
+         * @param nodes The list to fill.
+         */
+        private void collect(final List<Node> nodes) {
+            if (name != null) {
+                nodes.add(this);
+            }
+            for (final Node child : children) {
+                child.collect(nodes);
+            }
+        }
+    }
+
+    /** An empty array of characters. */
+    private static final char[] EMPTY_CHARS = {};
+
+    /** An empty array of nodes. */
+    private static final Node[] EMPTY_NODES = {};
+
+    /** The root node, reached by the empty prefix. */
+    private final Node root = new Node();
+
+    /**
+     * Constructs a new instance with the given names.
+     *
+     * @param names The names, in insertion order.
+     */
+    OptionTrie(final Iterable<String> names) {
+        names.forEach(this::add);
+    }
+
+    /**
+     * Adds a name, a name added twice keeps its first insertion rank.
+     *
+     * @param name The name to add.
+     */
+    void add(final String name) {
+        if (contains(name, 0, name.length())) {
+            return;
+        }
+        final int rank = root.count;
+        Node node = root;
+        node.countName(name);
+        for (int i = 0; i < name.length(); i++) {
+            node = node.childOrNew(name.charAt(i));
+            node.countName(name);
+        }
+        node.name = name;
+        node.rank = rank;
+    }
+
+    /**
+     * Tests whether a name has been added.
+     *
+     * @param chars The characters holding the name.
+     * @param start The start index of the name in {@code chars}, inclusive.
+     * @param end   The end index of the name in {@code chars}, exclusive.
+     * @return whether the name has been added.
+     */
+    boolean contains(final CharSequence chars, final int start, final int end) {
+        final Node node = find(chars, start, end);
+        return node != null && node.name != null;
+    }
+
+    /**
+     * Counts the names starting with a prefix.
+     *
+     * @param chars The characters holding the prefix.
+     * @param start The start index of the prefix in {@code chars}, inclusive.
+     * @param end   The end index of the prefix in {@code chars}, exclusive.
+     * @return The number of names starting with the prefix.
+     */
+    int count(final CharSequence chars, final int start, final int end) {
+        final Node node = find(chars, start, end);
+        return node == null ? 0 : node.count;
+    }
+
+    /**
+     * Finds the node reached by a prefix.
+     *
+     * @param chars The characters holding the prefix.
+     * @param start The start index of the prefix in {@code chars}, inclusive.
+     * @param end   The end index of the prefix in {@code chars}, exclusive.
+     * @return The node, or null if no name starts with the prefix.
+     */
+    private Node find(final CharSequence chars, final int start, final int end) {
+        Node node = root;
+        for (int i = start; i < end && node != null; i++) {
+            node = node.child(chars.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Gets an added name.
+     *
+     * @param chars The characters holding the name.
+     * @param start The start index of the name in {@code chars}, inclusive.
+     * @param end   The end index of the name in {@code chars}, exclusive.
+     * @return The added name equal to the given range, or null.
+     */
+    String get(final CharSequence chars, final int start, final int end) {
+        final Node node = find(chars, start, end);
+        return node == null ? null : node.name;
+    }
+
+    /**
+     * Gets the longest added name that is a prefix of a range, in a single walk of the tree.
+     *
+     * @param chars  The characters holding the range.
+     * @param start  The start index of the range in {@code chars}, inclusive.
+     * @param minEnd The smallest end index of a matching name in {@code chars}, inclusive.
+     * @param maxEnd The largest end index of a matching name in {@code chars}, inclusive.
+     * @return The longest added name equal to {@code chars} from {@code start} to an index between {@code minEnd} and {@code maxEnd}, or null.
+     */
+    String longestPrefix(final CharSequence chars, final int start, final int minEnd, final int maxEnd) {
+        String longest = null;
+        Node node = root;
+        for (int i = start; node != null; i++) {
+            if (node.name != null && i >= minEnd) {
+                longest = node.name;
+            }
+            if (i >= maxEnd) {
+                break;
+            }
+            node = node.child(chars.charAt(i));
+        }
+        return longest;
+    }
+
+    /**
+     * Gets the names starting with a prefix.
+     *
+     * @param chars The characters holding the prefix.
+     * @param start The start index of the prefix in {@code chars}, inclusive.
+     * @param end   The end index of the prefix in {@code chars}, exclusive.
+     * @return The names starting with the prefix, in insertion order.
+     */
+    List<String> matches(final CharSequence chars, final int start, final int end) {
+        final Node node = find(chars, start, end);
+        final List<String> names = new ArrayList<>(node == null ? 0 : node.count);
+        if (node != null) {
+            final List<Node> nodes = new ArrayList<>(node.count);
+            node.collect(nodes);
+            nodes.sort((n1, n2) -> Integer.compare(n1.rank, n2.rank));
+            nodes.forEach(n -> names.add(n.name));
+        }
+        return names;
+    }
+
+    /**
+     * Gets the only name starting with a prefix.
+     *
+     * @param chars The characters holding the prefix.
+     * @param start The start index of the prefix in {@code chars}, inclusive.
+     * @param end   The end index of the prefix in {@code chars}, exclusive.
+     * @return The only name starting with the prefix, or null if there is no such name or more than one.
+     */
+    String unique(final CharSequence chars, final int start, final int end) {
+        final Node node = find(chars, start, end);
+        return node != null && node.count == 1 ? node.anyName : null;
+    }
+}
@@ -30,6 +30,15 @@ final class OptionValidator {
     /** The array of additional characters allowed in the rest of the option but not in the first position Package private for tests. */
     static final char[] ADDITIONAL_LONG_CHARS = { '-' };
 
+    /** The number of characters of the Latin-1 range, the characters validated with a lookup table. */
+    private static final int LATIN_1_SIZE = 256;
+
+    /** Whether each Latin-1 character is valid as the first character of an option, see {@link #isValidOpt(char)}. */
+    private static final boolean[] VALID_OPT_CHARS = newLatin1Table(ADDITIONAL_OPTION_CHARS);
+
+    /** Whether each Latin-1 character is valid in the rest of an option, see {@link #isValidChar(char)}. */
+    private static final boolean[] VALID_CHARS = newLatin1Table(ADDITIONAL_LONG_CHARS);
+
     /**
      * Returns whether the specified character is a valid character.
      * A character is valid if any of the following conditions are true:
@@ -49,7 +58,7 @@ final class OptionValidator {
      * @return true if {@code c} is a valid character letter.
      */
     private static boolean isValidChar(final char c) {
-        return Character.isJavaIdentifierPart(c) || search(ADDITIONAL_LONG_CHARS, c);
+        return c < LATIN_1_SIZE ? VALID_CHARS[c] : Character.isJavaIdentifierPart(c) || search(ADDITIONAL_LONG_CHARS, c);
     }
 
     /**
@@ -71,7 +80,21 @@ final class OptionValidator {
      * @return true if {@code c} is a letter, '?' or '@', otherwise false.
      */
     private static boolean isValidOpt(final char c) {
-        return Character.isJavaIdentifierPart(c) || search(ADDITIONAL_OPTION_CHARS, c);
+        return c < LATIN_1_SIZE ? VALID_OPT_CHARS[c] : Character.isJavaIdentifierPart(c) || search(ADDITIONAL_OPTION_CHARS, c);
+    }
+
+    /**
+     * Creates the lookup table of the valid Latin-1 characters: the Java identifier parts and the additional characters.
+     *
+     * @param additionalChars The additional valid characters.
+     * @return A table indexed by character.
+     */
+    private static boolean[] newLatin1Table(final char[] additionalChars) {
+        final boolean[] table = new boolean[LATIN_1_SIZE];
+        for (char c = 0; c < LATIN_1_SIZE; c++) {
+            table[c] = Character.isJavaIdentifierPart(c) || search(additionalChars, c);
+        }
+        return table;
     }
 
     /**
@@ -127,18 +150,15 @@ final class OptionValidator {
         if (option.isEmpty()) {
             throw new IllegalArgumentException("Empty option name.");
         }
-        final char[] chars = option.toCharArray();
-        final char ch0 = chars[0];
+        final char ch0 = option.charAt(0);
         if (!isValidOpt(ch0)) {
             throw new IllegalArgumentException(String.format("Illegal option name '%s'.", ch0));
         }
         // handle the multi-character opt
-        if (option.length() > 1) {
-            for (int i = 1; i < chars.length; i++) {
-                final char ch = chars[i];
-                if (!isValidChar(ch)) {
-                    throw new IllegalArgumentException(String.format("The option '%s' contains an illegal character : '%s'.", option, ch));
-                }
+        for (int i = 1; i < option.length(); i++) {
+            final char ch = option.charAt(i);
+            if (!isValidChar(ch)) {
+                throw new IllegalArgumentException(String.format("The option '%s' contains an illegal character : '%s'.", option, ch));
             }
         }
         return option;
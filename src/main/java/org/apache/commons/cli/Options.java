@@ -25,7 +25,6 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Main entry-point into the library.
@@ -58,11 +57,46 @@ public class Options implements Serializable {
     /** A map of the option groups */
     private final Map<String, OptionGroup> optionGroups = new LinkedHashMap<>();
 
+    /** Whether this instance is an immutable snapshot, see {@link #freeze()}. */
+    private final boolean frozen;
+
+    /** The lookup tables, built on demand and reset when an option is added. */
+    private transient OptionIndex index;
+
     /**
      * Constructs new instance.
      */
     public Options() {
-        // empty
+        frozen = false;
+    }
+
+    /**
+     * Constructs a new instance with the same options, required options and option groups as the given instance.
+     * <p>
+     * The {@link Option} and {@link OptionGroup} instances are shared, not copied.
+     * </p>
+     *
+     * @param options The Options to copy.
+     */
+    Options(final Options options) {
+        this(options, false);
+    }
+
+    /**
+     * Constructs a new instance with the same options, required options and option groups as the given instance.
+     *
+     * @param options The Options to copy.
+     * @param frozen  Whether the new instance is an immutable snapshot.
+     */
+    private Options(final Options options, final boolean frozen) {
+        shortOpts.putAll(options.shortOpts);
+        longOpts.putAll(options.longOpts);
+        requiredOpts.addAll(options.requiredOpts);
+        optionGroups.putAll(options.optionGroups);
+        this.frozen = frozen;
+        if (frozen) {
+            index = newIndex();
+        }
     }
 
     /**
@@ -72,6 +106,7 @@ public class Options implements Serializable {
      * @return The resulting Options instance.
      */
     public Options addOption(final Option opt) {
+        checkNotFrozen();
         final String key = opt.getKey();
         // add it to the long option list
         if (opt.hasLongOpt()) {
@@ -85,6 +120,7 @@ public class Options implements Serializable {
             requiredOpts.add(key);
         }
         shortOpts.put(key, opt);
+        index = null;
         return this;
     }
 
@@ -148,8 +184,10 @@ public class Options implements Serializable {
      * @return The resulting Options instance.
      */
     public Options addOptionGroup(final OptionGroup optionGroup) {
+        checkNotFrozen();
         if (optionGroup.isRequired()) {
             requiredOpts.add(optionGroup);
+            index = null;
         }
         optionGroup.getOptions().forEach(option -> {
             // an Option cannot be required if it is in an
@@ -173,6 +211,7 @@ public class Options implements Serializable {
      * @since 1.7.0
      */
     public Options addOptions(final Options options) {
+        checkNotFrozen();
         options.getOptions().forEach(opt -> {
             if (hasOption(opt.getKey())) {
                 throw new IllegalArgumentException("Duplicate key: " + opt.getKey());
@@ -210,6 +249,31 @@ public class Options implements Serializable {
         return this;
     }
 
+    /**
+     * Throws an {@link UnsupportedOperationException} if this instance is frozen.
+     */
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Frozen Options cannot be modified");
+        }
+    }
+
+    /**
+     * Gets an immutable snapshot of this instance.
+     * <p>
+     * The snapshot holds the same options, required options and option groups, with its lookup tables built once. Its methods adding options throw an
+     * {@link UnsupportedOperationException}, so it can be shared by many threads, and {@link DefaultParser} records the option group selections in the
+     * returned {@link CommandLine} instead of calling {@link OptionGroup#setSelected(Option)}. The {@link Option} and {@link OptionGroup} instances are
+     * shared with this instance and must not be modified once frozen.
+     * </p>
+     *
+     * @return An immutable snapshot of this instance, this instance if it is already frozen.
+     * @since 1.12.0
+     */
+    public Options freeze() {
+        return frozen ? this : new Options(this, true);
+    }
+
     /**
      * Gets the options with a long name starting with the name specified.
      *
@@ -228,7 +292,105 @@ public class Options implements Serializable {
         if (longOpts.containsKey(clean)) {
             return Collections.singletonList(clean);
         }
-        return longOpts.keySet().stream().filter(s -> s.startsWith(clean)).collect(Collectors.toList());
+        return getLongOptTrie().matches(clean, 0, clean.length());
+    }
+
+    /**
+     * Gets the long name of the option matching the name specified, like {@link #getMatchingOptions(String)} without building a list.
+     *
+     * @param opt The partial name of the option, may be {@code null}.
+     * @return The long name equal to {@code opt}, or else the only long name starting with {@code opt}, or null.
+     */
+    String getMatchingOption(final String opt) {
+        return Util.isEmpty(opt) ? null : getMatchingOption(opt, opt.length());
+    }
+
+    /**
+     * Gets the long name of the option matching the name at the start of the token specified, like {@link #getMatchingOption(String)} for
+     * {@code token.substring(0, end)}.
+     *
+     * @param token The token starting with the partial name of the option, not null.
+     * @param end   The end index of the name in {@code token}.
+     * @return The long name equal to the name, or else the only long name starting with the name, or null.
+     */
+    String getMatchingOption(final String token, final int end) {
+        final int start = Util.leadingHyphens(token);
+        if (start >= end) {
+            return null;
+        }
+        final OptionTrie trie = getLongOptTrie();
+        final String exact = trie.get(token, start, end);
+        return exact != null ? exact : trie.unique(token, start, end);
+    }
+
+    /**
+     * Counts the options matching the name specified, like {@link #getMatchingOptions(String)} without building a list.
+     *
+     * @param opt The partial name of the option, may be {@code null}.
+     * @return 1 for a perfect match, or else the number of long names starting with {@code opt}.
+     */
+    int getMatchingOptionCount(final String opt) {
+        return Util.isEmpty(opt) ? 0 : getMatchingOptionCount(opt, opt.length());
+    }
+
+    /**
+     * Counts the options matching the name at the start of the token specified, like {@link #getMatchingOptionCount(String)} for
+     * {@code token.substring(0, end)}.
+     *
+     * @param token The token starting with the partial name of the option, not null.
+     * @param end   The end index of the name in {@code token}.
+     * @return 1 for a perfect match, or else the number of long names starting with the name.
+     */
+    int getMatchingOptionCount(final String token, final int end) {
+        final int start = Util.leadingHyphens(token);
+        if (start >= end) {
+            return 0;
+        }
+        final OptionTrie trie = getLongOptTrie();
+        return trie.contains(token, start, end) ? 1 : trie.count(token, start, end);
+    }
+
+    /**
+     * Gets the long option names as a prefix tree, building it if needed.
+     *
+     * @return The long option names as a prefix tree.
+     */
+    OptionTrie getLongOptTrie() {
+        return getIndex().getLongNames();
+    }
+
+    /**
+     * Gets the lookup tables, building them if needed.
+     * <p>
+     * Threads racing on a frozen instance deserialized without its tables at worst build them more than once.
+     * </p>
+     *
+     * @return The lookup tables.
+     */
+    OptionIndex getIndex() {
+        OptionIndex result = index;
+        if (result == null) {
+            result = newIndex();
+            index = result;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the {@link Option} with the short or long name held by a range of characters, like {@link #getOption(String)} without ignoring hyphens.
+     *
+     * @param chars The characters holding the name.
+     * @param start The start index of the name in {@code chars}, inclusive.
+     * @param end   The end index of the name in {@code chars}, exclusive.
+     * @return The option, or null.
+     */
+    Option getOption(final CharSequence chars, final int start, final int end) {
+        final Option option = getShortOption(chars, start, end);
+        if (option != null) {
+            return option;
+        }
+        final String longOpt = getLongOptTrie().get(chars, start, end);
+        return longOpt != null ? longOpts.get(longOpt) : null;
     }
 
     /**
@@ -310,6 +472,23 @@ public class Options implements Serializable {
         return shortOpts.containsKey(clean) || longOpts.containsKey(clean);
     }
 
+    /**
+     * Gets the {@link Option} with the short name held by a range of characters, without ignoring hyphens.
+     *
+     * @param chars The characters holding the name.
+     * @param start The start index of the name in {@code chars}, inclusive.
+     * @param end   The end index of the name in {@code chars}, exclusive.
+     * @return The option, or null.
+     */
+    Option getShortOption(final CharSequence chars, final int start, final int end) {
+        final OptionIndex optionIndex = getIndex();
+        if (end - start == 1 && chars.charAt(start) < OptionIndex.ASCII) {
+            return optionIndex.getAsciiShortOption(chars.charAt(start));
+        }
+        final String opt = optionIndex.getShortNames().get(chars, start, end);
+        return opt != null ? shortOpts.get(opt) : null;
+    }
+
     /**
      * Tests whether the named {@link Option} is a member of this {@link Options}.
      *
@@ -322,6 +501,25 @@ public class Options implements Serializable {
         return shortOpts.containsKey(clean);
     }
 
+    /**
+     * Tests whether this instance is an immutable snapshot created by {@link #freeze()}.
+     *
+     * @return whether this instance is frozen.
+     * @since 1.12.0
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Creates the lookup tables of the current options.
+     *
+     * @return New lookup tables.
+     */
+    private OptionIndex newIndex() {
+        return new OptionIndex(shortOpts, longOpts, requiredOpts, optionGroups);
+    }
+
     /**
      * Returns the Options for use by the HelpFormatter.
      *
@@ -0,0 +1,82 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+/**
+ * Receives the events of the parses of a {@link DefaultParser}, for example to measure where parse time goes.
+ * <p>
+ * A listener is installed with {@link DefaultParser.Builder#setParseListener(ParseListener)}. The parser measures nothing when no listener is installed.
+ * Events are sent by the thread parsing the command line, or converting its values, so a listener shared by parsers running in several threads must be
+ * thread-safe. All methods do nothing by default.
+ * </p>
+ *
+ * @see ParseStatistics
+ * @since 1.12.0
+ */
+public interface ParseListener {
+
+    /**
+     * Called when an option of the command line is matched, including the options set from properties.
+     *
+     * @param option The matched option.
+     */
+    default void optionMatched(final Option option) {
+        // empty
+    }
+
+    /**
+     * Called when a parse completes successfully.
+     *
+     * @param tokenCount    The number of tokens parsed.
+     * @param durationNanos The duration of the parse in nanoseconds.
+     */
+    default void parseCompleted(final int tokenCount, final long durationNanos) {
+        // empty
+    }
+
+    /**
+     * Called when a parse fails.
+     *
+     * @param exception     The exception thrown by the parse, an {@link AmbiguousOptionException} for an ambiguous partial option name.
+     * @param tokenCount    The number of tokens parsed before the failure, including the failing token.
+     * @param durationNanos The duration of the parse in nanoseconds.
+     */
+    default void parseFailed(final ParseException exception, final int tokenCount, final long durationNanos) {
+        // empty
+    }
+
+    /**
+     * Called when a partial long option name is resolved to an option, see {@link DefaultParser.Builder#setAllowPartialMatching(boolean)}.
+     *
+     * @param token  The command line token holding the partial name.
+     * @param option The option named by the partial name.
+     */
+    default void partialMatchResolved(final String token, final Option option) {
+        // empty
+    }
+
+    /**
+     * Called when a value of an option is converted by the converter of the option, see {@link CommandLine#getParsedOptionValue(Option)}.
+     *
+     * @param option        The option of the value, its {@link Option#getType() type} is the type of the converted value.
+     * @param durationNanos The duration of the conversion in nanoseconds, including a failed conversion.
+     */
+    default void valueConverted(final Option option, final long durationNanos) {
+        // empty
+    }
+}
@@ -0,0 +1,85 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+/**
+ * The outcome of parsing one command line of a batch: either a {@link CommandLine} or the {@link ParseException} thrown while parsing it.
+ *
+ * @see CompiledParser#parseAll(java.util.List, java.util.concurrent.Executor)
+ * @see CompiledParser#parseAll(java.util.stream.Stream)
+ * @since 1.12.0
+ */
+public final class ParseResult {
+
+    /** The parsed command line, or null if parsing failed. */
+    private final CommandLine commandLine;
+
+    /** The exception thrown while parsing, or null if parsing succeeded. */
+    private final ParseException exception;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param commandLine The parsed command line, or null if parsing failed.
+     * @param exception   The exception thrown while parsing, or null if parsing succeeded.
+     */
+    ParseResult(final CommandLine commandLine, final ParseException exception) {
+        this.commandLine = commandLine;
+        this.exception = exception;
+    }
+
+    /**
+     * Gets the parsed command line, or throws the exception thrown while parsing.
+     *
+     * @return The parsed command line.
+     * @throws ParseException if parsing failed.
+     */
+    public CommandLine get() throws ParseException {
+        if (exception != null) {
+            throw exception;
+        }
+        return commandLine;
+    }
+
+    /**
+     * Gets the parsed command line.
+     *
+     * @return The parsed command line, or null if parsing failed.
+     */
+    public CommandLine getCommandLine() {
+        return commandLine;
+    }
+
+    /**
+     * Gets the exception thrown while parsing.
+     *
+     * @return The exception, or null if parsing succeeded.
+     */
+    public ParseException getException() {
+        return exception;
+    }
+
+    /**
+     * Tests whether parsing succeeded.
+     *
+     * @return whether parsing succeeded.
+     */
+    public boolean isSuccess() {
+        return exception == null;
+    }
+}
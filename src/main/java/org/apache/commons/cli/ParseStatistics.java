@@ -0,0 +1,228 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ParseListener} aggregating the events of parses in memory, to be read and exported by a metrics system.
+ * <p>
+ * Instances are thread-safe and can be shared by parsers running in several threads. The counters are updated with little contention, and reading them
+ * while parses run gives values that may be slightly apart from each other.
+ * </p>
+ *
+ * <pre>
+ * ParseStatistics statistics = new ParseStatistics();
+ * DefaultParser parser = DefaultParser.builder().setParseListener(statistics).get();
+ * CommandLine cmd = parser.parse(options, args);
+ * long parseNanos = statistics.getParseNanos();
+ * </pre>
+ *
+ * @since 1.12.0
+ */
+public class ParseStatistics implements ParseListener {
+
+    /**
+     * Snapshots the counters of a map.
+     *
+     * @param <K>      The key type.
+     * @param counters The counters.
+     * @return An unmodifiable map of the counter values.
+     */
+    private static <K> Map<K, Long> snapshot(final Map<K, LongAdder> counters) {
+        final Map<K, Long> values = new HashMap<>(counters.size() * 2);
+        counters.forEach((key, counter) -> values.put(key, counter.sum()));
+        return Collections.unmodifiableMap(values);
+    }
+
+    /** The number of successful parses. */
+    private final LongAdder parseCount = new LongAdder();
+
+    /** The number of failed parses. */
+    private final LongAdder failureCount = new LongAdder();
+
+    /** The number of parsed tokens, in successful and failed parses. */
+    private final LongAdder tokenCount = new LongAdder();
+
+    /** The duration of the parses in nanoseconds, in successful and failed parses. */
+    private final LongAdder parseNanos = new LongAdder();
+
+    /** The number of matched options. */
+    private final LongAdder optionMatchCount = new LongAdder();
+
+    /** The number of partial long option names resolved to an option. */
+    private final LongAdder partialMatchCount = new LongAdder();
+
+    /** The number of failed parses by exception type. */
+    private final Map<Class<? extends ParseException>, LongAdder> exceptionCounts = new ConcurrentHashMap<>();
+
+    /** The number of converted values by option type. */
+    private final Map<Class<?>, LongAdder> conversionCounts = new ConcurrentHashMap<>();
+
+    /** The duration of the conversions in nanoseconds by option type. */
+    private final Map<Class<?>, LongAdder> conversionNanos = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new instance.
+     */
+    public ParseStatistics() {
+        // empty
+    }
+
+    /**
+     * Gets the number of parses that failed because a partial long option name matched several options.
+     *
+     * @return The number of {@link AmbiguousOptionException} failures.
+     */
+    public long getAmbiguousMatchCount() {
+        final LongAdder counter = exceptionCounts.get(AmbiguousOptionException.class);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Gets the number of converted values by option type.
+     *
+     * @return An unmodifiable snapshot mapping the {@link Option#getType() option types} to their number of converted values.
+     */
+    public Map<Class<?>, Long> getConversionCounts() {
+        return snapshot(conversionCounts);
+    }
+
+    /**
+     * Gets the duration of the conversions in nanoseconds by option type.
+     *
+     * @return An unmodifiable snapshot mapping the {@link Option#getType() option types} to the duration of their conversions.
+     */
+    public Map<Class<?>, Long> getConversionNanos() {
+        return snapshot(conversionNanos);
+    }
+
+    /**
+     * Gets the number of failed parses by exception type.
+     *
+     * @return An unmodifiable snapshot mapping the exception types to their number of failed parses.
+     */
+    public Map<Class<? extends ParseException>, Long> getExceptionCounts() {
+        return snapshot(exceptionCounts);
+    }
+
+    /**
+     * Gets the number of failed parses.
+     *
+     * @return The number of failed parses.
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * Gets the number of matched options.
+     *
+     * @return The number of matched options.
+     */
+    public long getOptionMatchCount() {
+        return optionMatchCount.sum();
+    }
+
+    /**
+     * Gets the number of successful parses.
+     *
+     * @return The number of successful parses.
+     */
+    public long getParseCount() {
+        return parseCount.sum();
+    }
+
+    /**
+     * Gets the duration of the successful and failed parses in nanoseconds.
+     *
+     * @return The duration of the parses in nanoseconds.
+     */
+    public long getParseNanos() {
+        return parseNanos.sum();
+    }
+
+    /**
+     * Gets the number of partial long option names resolved to an option.
+     *
+     * @return The number of resolved partial names.
+     */
+    public long getPartialMatchCount() {
+        return partialMatchCount.sum();
+    }
+
+    /**
+     * Gets the number of tokens of the successful and failed parses.
+     *
+     * @return The number of parsed tokens.
+     */
+    public long getTokenCount() {
+        return tokenCount.sum();
+    }
+
+    @Override
+    public void optionMatched(final Option option) {
+        optionMatchCount.increment();
+    }
+
+    @Override
+    public void parseCompleted(final int tokens, final long durationNanos) {
+        parseCount.increment();
+        tokenCount.add(tokens);
+        parseNanos.add(durationNanos);
+    }
+
+    @Override
+    public void parseFailed(final ParseException exception, final int tokens, final long durationNanos) {
+        failureCount.increment();
+        tokenCount.add(tokens);
+        parseNanos.add(durationNanos);
+        exceptionCounts.computeIfAbsent(exception.getClass(), k -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void partialMatchResolved(final String token, final Option option) {
+        partialMatchCount.increment();
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    public void reset() {
+        parseCount.reset();
+        failureCount.reset();
+        tokenCount.reset();
+        parseNanos.reset();
+        optionMatchCount.reset();
+        partialMatchCount.reset();
+        exceptionCounts.clear();
+        conversionCounts.clear();
+        conversionNanos.clear();
+    }
+
+    @Override
+    public void valueConverted(final Option option, final long durationNanos) {
+        final Class<?> type = (Class<?>) option.getType();
+        conversionCounts.computeIfAbsent(type, k -> new LongAdder()).increment();
+        conversionNanos.computeIfAbsent(type, k -> new LongAdder()).add(durationNanos);
+    }
+}
@@ -0,0 +1,233 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An occurrence of an {@link Option} in a parsed command line: the option descriptor, shared with the {@link Options}, and the values of this occurrence.
+ * <p>
+ * An {@link Option} instance holding the values is only created when {@link CommandLine#getOptions()} or {@link CommandLine#iterator()} need one.
+ * </p>
+ */
+final class ParsedOption implements Serializable {
+
+    /**
+     * The values of an occurrence converted by a converter, published as a whole so that concurrent readers never see the values of another converter.
+     */
+    private static final class ConvertedValues {
+
+        /** The converter of {@link #values}. */
+        private final Converter<?, ?> converter;
+
+        /** The converted values, {@link ParsedOption#NOT_CONVERTED} until converted. */
+        private final AtomicReferenceArray<Object> values;
+
+        /**
+         * Constructs the converted values of a converter, none converted yet.
+         *
+         * @param converter The converter.
+         * @param size      The number of values.
+         */
+        private ConvertedValues(final Converter<?, ?> converter, final int size) {
+            this.converter = converter;
+            this.values = new AtomicReferenceArray<>(size);
+            for (int i = 0; i < size; i++) {
+                values.set(i, NOT_CONVERTED);
+            }
+        }
+    }
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The values of an occurrence of an option without argument. */
+    private static final List<String> NO_VALUES = Collections.emptyList();
+
+    /** Marks a value not converted yet in {@link #convertedValues}. */
+    private static final Object NOT_CONVERTED = new Object();
+
+    /**
+     * Converts a value of an option, reporting the duration of the conversion to a listener.
+     *
+     * @param option    The option of the value.
+     * @param converter The converter.
+     * @param value     The value to convert.
+     * @param listener  The listener of the conversion, or null.
+     * @return The converted value.
+     * @throws Exception if the converter fails.
+     */
+    static Object convert(final Option option, final Converter<?, ?> converter, final String value, final ParseListener listener) throws Exception {
+        if (listener == null) {
+            return converter.apply(value);
+        }
+        final long start = System.nanoTime();
+        try {
+            return converter.apply(value);
+        } finally {
+            listener.valueConverted(option, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Creates the list of values of a new occurrence of an option.
+     *
+     * @param option The option descriptor.
+     * @return The list of values.
+     */
+    private static List<String> newValues(final Option option) {
+        if (!option.isValuesEmpty()) {
+            return new ArrayList<>(option.getValuesList());
+        }
+        // an option without argument never gets a value
+        return option.getArgs() == Option.UNINITIALIZED ? NO_VALUES : new ArrayList<>();
+    }
+
+    /**
+     * Wraps an Option holding its own values, for example an Option added to a {@link CommandLine} by a custom parser. The values stay shared with the
+     * Option.
+     *
+     * @param option The Option holding the values.
+     * @return A new instance.
+     */
+    static ParsedOption wrap(final Option option) {
+        return new ParsedOption(option, option.getValuesList(), option);
+    }
+
+    /** The option descriptor. */
+    private final Option option;
+
+    /** The values of this occurrence. */
+    private final List<String> values;
+
+    /** The Option holding the values of this occurrence, created on demand. */
+    private transient Option valuesOption;
+
+    /** The values of this occurrence converted on demand, in the order of {@link #values}. */
+    private transient volatile ConvertedValues convertedValues;
+
+    /**
+     * Constructs a new occurrence of an option, starting with the values of the descriptor.
+     *
+     * @param option The option descriptor.
+     */
+    ParsedOption(final Option option) {
+        this(option, newValues(option), null);
+    }
+
+    private ParsedOption(final Option option, final List<String> values, final Option valuesOption) {
+        this.option = option;
+        this.values = values;
+        this.valuesOption = valuesOption;
+    }
+
+    /**
+     * Tests whether the option can accept more arguments.
+     *
+     * @return false if the maximum number of arguments is reached.
+     */
+    boolean acceptsArg() {
+        return option.acceptsArg(values);
+    }
+
+    /**
+     * Gets a value of this occurrence converted by a converter, converting it on the first call only.
+     * <p>
+     * The converted values are discarded when the converter or the number of values changes. Threads reading the same value at the same time may each
+     * convert it, but all of them return the first converted instance stored.
+     * </p>
+     *
+     * @param index The index of the value.
+     * @param converter The converter.
+     * @param listener The listener of the conversion, or null.
+     * @return The converted value.
+     * @throws Exception if the converter fails.
+     */
+    Object getConvertedValue(final int index, final Converter<?, ?> converter, final ParseListener listener) throws Exception {
+        ConvertedValues converted = convertedValues;
+        if (converted == null || converted.values.length() != values.size() || converted.converter != converter) {
+            converted = new ConvertedValues(converter, values.size());
+            convertedValues = converted;
+        }
+        if (converted.values.get(index) == NOT_CONVERTED) {
+            converted.values.compareAndSet(index, NOT_CONVERTED, convert(option, converter, values.get(index), listener));
+        }
+        return converted.values.get(index);
+    }
+
+    /**
+     * Gets the option descriptor.
+     *
+     * @return The option descriptor.
+     */
+    Option getOption() {
+        return option;
+    }
+
+    /**
+     * Gets the values of this occurrence.
+     *
+     * @return The values of this occurrence.
+     */
+    List<String> getValuesList() {
+        return values;
+    }
+
+    /**
+     * Tests whether this occurrence has any values.
+     *
+     * @return whether this occurrence has any values.
+     */
+    boolean isValuesEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * Processes a value of this occurrence, see {@link Option#processValue(String)}.
+     *
+     * @param value The String to be processed.
+     */
+    void processValue(final String value) {
+        option.processValue(values, value);
+    }
+
+    /**
+     * Tests whether the option requires more arguments to be valid.
+     *
+     * @return false if the option doesn't require more arguments.
+     */
+    boolean requiresArg() {
+        return option.requiresArg(values);
+    }
+
+    /**
+     * Gets an Option equal to the descriptor and holding the values of this occurrence.
+     *
+     * @return An Option holding the values of this occurrence.
+     */
+    Option toOption() {
+        if (valuesOption == null) {
+            valuesOption = option.copy(values == NO_VALUES ? new ArrayList<>() : values);
+        }
+        return valuesOption;
+    }
+}
@@ -20,14 +20,21 @@ package org.apache.commons.cli;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Properties;
 
+import org.apache.commons.cli.FlatteningIterator.UncheckedParseException;
 import org.apache.commons.cli.help.OptionFormatter;
 
 /**
  * Creates {@link CommandLine} instances.
+ * <p>
+ * A Parser holds the state of the current parse and must not be shared by threads. With {@link #setReadOnlyOptions(boolean) read-only options}, the
+ * parsers of many threads can share the same {@link Options}.
+ * </p>
  *
  * @deprecated Since 1.3, the two-pass parsing with the flatten method is not enough flexible to handle complex cases.
  */
@@ -43,6 +50,12 @@ public abstract class Parser implements CommandLineParser {
     /** List of required options strings */
     private List requiredOptions;
 
+    /** Whether the Options are left untouched while parsing even when they are not frozen. */
+    private boolean readOnlyOptions;
+
+    /** The option group selections of the current parse when the Options are read-only or frozen, otherwise null. */
+    private Map<OptionGroup, String> selectedGroups;
+
     /**
      * Constructs a new instance.
      */
@@ -73,6 +86,22 @@ public abstract class Parser implements CommandLineParser {
      */
     protected abstract String[] flatten(Options opts, String[] arguments, boolean stopAtNonOption) throws ParseException;
 
+    /**
+     * Creates an iterator flattening the arguments one at a time as the tokens are consumed, producing the tokens of
+     * {@link #flatten(Options, String[], boolean)} without building an array first.
+     * <p>
+     * Only called for the instances of {@link PosixParser} and {@link GnuParser} themselves, see {@link #isFlatteningOnDemand()}.
+     * </p>
+     *
+     * @param opts The Options to parse the arguments by.
+     * @param arguments The arguments that have to be flattened.
+     * @param stopAtNonOption specifies whether to stop flattening when a non option has been encountered.
+     * @return The iterator, or null if this parser only flattens with {@link #flatten(Options, String[], boolean)}.
+     */
+    FlatteningIterator flatteningIterator(final Options opts, final String[] arguments, final boolean stopAtNonOption) {
+        return null;
+    }
+
     /**
      * Gets the options.
      *
@@ -91,6 +120,40 @@ public abstract class Parser implements CommandLineParser {
         return requiredOptions;
     }
 
+    /**
+     * Tests whether the arguments are flattened one at a time with {@link #flatteningIterator(Options, String[], boolean)}.
+     * <p>
+     * A subclass may override {@link #flatten(Options, String[], boolean)}, {@link #processArgs(Option, ListIterator)},
+     * {@link #processOption(String, ListIterator)} or the methods of its parent parser and expect all the arguments to be flattened before the tokens are
+     * consumed, so only the instances of {@link PosixParser} and {@link GnuParser} themselves flatten on demand.
+     * </p>
+     *
+     * @return whether the arguments are flattened one at a time.
+     */
+    private boolean isFlatteningOnDemand() {
+        return getClass() == PosixParser.class || getClass() == GnuParser.class;
+    }
+
+    /**
+     * Tests whether the Options are left untouched while parsing, see {@link #setReadOnlyOptions(boolean)}.
+     *
+     * @return whether the Options are left untouched while parsing even when they are not frozen.
+     * @since 1.12.0
+     */
+    public boolean isReadOnlyOptions() {
+        return readOnlyOptions;
+    }
+
+    /**
+     * Tests whether an option of a group has been selected by the current parse.
+     *
+     * @param optionGroup The option group.
+     * @return whether an option of the group has been selected.
+     */
+    private boolean isSelected(final OptionGroup optionGroup) {
+        return selectedGroups != null ? selectedGroups.containsKey(optionGroup) : optionGroup.isSelected();
+    }
+
     /**
      * Parses the specified {@code arguments} based on the specified {@link Options}.
      *
@@ -149,57 +212,33 @@ public abstract class Parser implements CommandLineParser {
      */
     public CommandLine parse(final Options options, final String[] arguments, final Properties properties, final boolean stopAtNonOption)
             throws ParseException {
-        // clear out the data in options in case it's been used before (CLI-71)
-        options.helpOptions().forEach(Option::clearValues);
-        // clear the data from the groups
-        for (final OptionGroup optionGroup : options.getOptionGroups()) {
-            optionGroup.setSelected(null);
+        if (readOnlyOptions || options.isFrozen()) {
+            selectedGroups = new HashMap<>();
+        } else {
+            selectedGroups = null;
+            // clear out the data in options in case it's been used before (CLI-71)
+            options.helpOptions().forEach(Option::clearValues);
+            // clear the data from the groups
+            for (final OptionGroup optionGroup : options.getOptionGroups()) {
+                optionGroup.setSelected(null);
+            }
         }
         // initialize members
         setOptions(options);
-        cmd = CommandLine.builder().get();
-        boolean eatTheRest = false;
-        final List<String> tokenList = Arrays.asList(flatten(getOptions(), arguments == null ? Util.EMPTY_STRING_ARRAY : arguments, stopAtNonOption));
-        final ListIterator<String> iterator = tokenList.listIterator();
-        // process each flattened token
-        while (iterator.hasNext()) {
-            final String token = iterator.next();
-            if (token != null) {
-                // the value is the double-dash
-                if (OptionFormatter.DEFAULT_LONG_OPT_PREFIX.equals(token)) {
-                    eatTheRest = true;
-                } else if (OptionFormatter.DEFAULT_OPT_PREFIX.equals(token)) {
-                    // the value is a single dash
-                    if (stopAtNonOption) {
-                        eatTheRest = true;
-                    } else {
-                        cmd.addArg(token);
-                    }
-                } else if (token.startsWith(OptionFormatter.DEFAULT_OPT_PREFIX)) {
-                    // the value is an option
-                    if (stopAtNonOption && !getOptions().hasOption(token)) {
-                        eatTheRest = true;
-                        cmd.addArg(token);
-                    } else {
-                        processOption(token, iterator);
-                    }
-                } else {
-                    // the value is an argument
-                    cmd.addArg(token);
-                    if (stopAtNonOption) {
-                        eatTheRest = true;
-                    }
-                }
-                // eat the remaining tokens
-                if (eatTheRest) {
-                    iterator.forEachRemaining(str -> {
-                        // ensure only one double-dash is added
-                        if (!OptionFormatter.DEFAULT_LONG_OPT_PREFIX.equals(str)) {
-                            cmd.addArg(str);
-                        }
-                    });
-                }
+        cmd = CommandLine.builder().setSelectedGroups(selectedGroups).get();
+        final String[] args = arguments == null ? Util.EMPTY_STRING_ARRAY : arguments;
+        final FlatteningIterator flattening = isFlatteningOnDemand() ? flatteningIterator(getOptions(), args, stopAtNonOption) : null;
+        final ListIterator<String> iterator = flattening != null ? flattening : Arrays.asList(flatten(getOptions(), args, stopAtNonOption)).listIterator();
+        try {
+            processTokens(iterator, stopAtNonOption);
+        } catch (final UncheckedParseException e) {
+            throw e.getCause();
+        } catch (final ParseException | RuntimeException e) {
+            if (flattening != null) {
+                // a flattening failure of a later argument takes precedence, as when all the arguments are flattened first
+                flattening.flattenRemaining();
             }
+            throw e;
         }
         processProperties(properties);
         checkRequiredOptions();
@@ -223,10 +262,8 @@ public abstract class Parser implements CommandLineParser {
                 iter.previous();
                 break;
             }
-            // found a value
-            try {
-                opt.processValue(Util.stripLeadingAndTrailingQuotes(str));
-            } catch (final RuntimeException exp) {
+            // found a value, unless the option cannot take it
+            if (!opt.offerValue(Util.stripLeadingAndTrailingQuotes(str))) {
                 iter.previous();
                 break;
             }
@@ -251,7 +288,7 @@ public abstract class Parser implements CommandLineParser {
             throw new UnrecognizedOptionException("Unrecognized option: " + arg, arg);
         }
         // get the option represented by arg
-        final Option opt = (Option) getOptions().getOption(arg).clone();
+        final Option opt = newOption(getOptions().getOption(arg));
         // update the required options and groups
         updateRequiredOptions(opt);
         // if the option takes an argument value
@@ -280,29 +317,89 @@ public abstract class Parser implements CommandLineParser {
             }
             // if the option is part of a group, check if another option of the group has been selected
             final OptionGroup optionGroup = options.getOptionGroup(opt);
-            final boolean selected = optionGroup != null && optionGroup.isSelected();
+            final boolean selected = optionGroup != null && isSelected(optionGroup);
             if (!cmd.hasOption(option) && !selected) {
+                // the option of the Options holds the value unless the Options are read-only
+                final Option occurrence = selectedGroups == null ? opt : newOption(opt);
                 // get the value from the properties instance
                 final String value = properties.getProperty(option);
-                if (opt.hasArg()) {
-                    if (opt.isValuesEmpty()) {
-                        try {
-                            opt.processValue(value);
-                        } catch (final RuntimeException exp) { // NOPMD
-                            // if we cannot add the value don't worry about it
-                        }
+                if (occurrence.hasArg()) {
+                    if (occurrence.isValuesEmpty()) {
+                        // if we cannot add the value don't worry about it
+                        occurrence.offerValue(value);
                     }
                 } else if (!("yes".equalsIgnoreCase(value) || "true".equalsIgnoreCase(value) || "1".equalsIgnoreCase(value))) {
                     // if the value is not yes, true or 1 then don't add the
                     // option to the CommandLine
                     continue;
                 }
-                cmd.addOption(opt);
-                updateRequiredOptions(opt);
+                cmd.addOption(occurrence);
+                updateRequiredOptions(occurrence);
+            }
+        }
+    }
+
+    /**
+     * Processes the flattened tokens.
+     *
+     * @param iterator The iterator over the flattened tokens.
+     * @param stopAtNonOption specifies whether to stop parsing when a non option has been encountered.
+     * @throws ParseException if there are any problems encountered while parsing the command line tokens.
+     */
+    private void processTokens(final ListIterator<String> iterator, final boolean stopAtNonOption) throws ParseException {
+        boolean eatTheRest = false;
+        // process each flattened token
+        while (iterator.hasNext()) {
+            final String token = iterator.next();
+            if (token != null) {
+                // the value is the double-dash
+                if (OptionFormatter.DEFAULT_LONG_OPT_PREFIX.equals(token)) {
+                    eatTheRest = true;
+                } else if (OptionFormatter.DEFAULT_OPT_PREFIX.equals(token)) {
+                    // the value is a single dash
+                    if (stopAtNonOption) {
+                        eatTheRest = true;
+                    } else {
+                        cmd.addArg(token);
+                    }
+                } else if (token.startsWith(OptionFormatter.DEFAULT_OPT_PREFIX)) {
+                    // the value is an option
+                    if (stopAtNonOption && !getOptions().hasOption(token)) {
+                        eatTheRest = true;
+                        cmd.addArg(token);
+                    } else {
+                        processOption(token, iterator);
+                    }
+                } else {
+                    // the value is an argument
+                    cmd.addArg(token);
+                    if (stopAtNonOption) {
+                        eatTheRest = true;
+                    }
+                }
+                // eat the remaining tokens
+                if (eatTheRest) {
+                    iterator.forEachRemaining(str -> {
+                        // ensure only one double-dash is added
+                        if (!OptionFormatter.DEFAULT_LONG_OPT_PREFIX.equals(str)) {
+                            cmd.addArg(str);
+                        }
+                    });
+                }
             }
         }
     }
 
+    /**
+     * Creates the Option holding the values of an occurrence of an option in the current parse.
+     *
+     * @param option The option of the Options.
+     * @return A clone of the option, or a copy without values when the Options are read-only.
+     */
+    private Option newOption(final Option option) {
+        return selectedGroups == null ? (Option) option.clone() : option.copy(new ArrayList<>());
+    }
+
     /**
      * Sets the options.
      *
@@ -313,6 +410,22 @@ public abstract class Parser implements CommandLineParser {
         this.requiredOptions = new ArrayList<>(options.getRequiredOptions());
     }
 
+    /**
+     * Sets whether the {@link Options} are left untouched while parsing.
+     * <p>
+     * By default, a parse clears the values of the options and the selections of the option groups, and then records the option group selections in the
+     * option groups, so that parses sharing the same Options interfere. With read-only options, the option group selections are recorded in the returned
+     * {@link CommandLine} instead, see {@link CommandLine#getOptionValue(OptionGroup)}, and the Options can be shared by the parsers of many threads as long
+     * as they are not modified. Frozen Options, see {@link Options#freeze()}, are always read-only.
+     * </p>
+     *
+     * @param readOnlyOptions whether the Options are left untouched while parsing.
+     * @since 1.12.0
+     */
+    public void setReadOnlyOptions(final boolean readOnlyOptions) {
+        this.readOnlyOptions = readOnlyOptions;
+    }
+
     /**
      * Removes the option or its group from the list of expected elements.
      *
@@ -331,7 +444,15 @@ public abstract class Parser implements CommandLineParser {
             if (optionGroup.isRequired()) {
                 getRequiredOptions().remove(optionGroup);
             }
-            optionGroup.setSelected(opt);
+            if (selectedGroups == null) {
+                optionGroup.setSelected(opt);
+            } else {
+                final String selected = selectedGroups.get(optionGroup);
+                if (selected != null && !selected.equals(opt.getKey())) {
+                    throw new AlreadySelectedException(optionGroup, opt, selected);
+                }
+                selectedGroups.put(optionGroup, opt.getKey());
+            }
         }
     }
 
@@ -20,7 +20,11 @@ package org.apache.commons.cli;
 import java.io.File;
 import java.io.FileInputStream;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -110,6 +114,80 @@ public class PatternOptionBuilder {
         throw new UnsupportedOperationException("Not yet implemented");
     };
 
+    /** The converters of the value codes, shared by all the patterns. */
+    private static final TypeHandler TYPE_HANDLER = newTypeHandler();
+
+    /** The number of compiled patterns kept by the pattern cache. */
+    private static final int PATTERN_CACHE_SIZE = 64;
+
+    /** The options of the most recently used patterns, never exposed: {@link #parsePattern(String)} returns copies. */
+    private static final Map<String, Option[]> PATTERN_CACHE = Collections
+            .synchronizedMap(new LinkedHashMap<String, Option[]>(PATTERN_CACHE_SIZE + 1, 1f, true) {
+
+                /** The serial version UID. */
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, Option[]> eldest) {
+                    return size() > PATTERN_CACHE_SIZE;
+                }
+            });
+
+    /**
+     * Compiles a pattern into the options it represents, in the order they are added to the {@link Options}.
+     *
+     * @param pattern The pattern string.
+     * @return The options represented by {@code pattern}.
+     */
+    private static Option[] compilePattern(final String pattern) {
+        char opt = Char.SP;
+        boolean required = false;
+        Class<?> type = null;
+        Converter<?, ?> converter = Converter.DEFAULT;
+
+        final List<Option> options = new ArrayList<>();
+
+        for (int i = 0; i < pattern.length(); i++) {
+            final char ch = pattern.charAt(i);
+
+            // a value code comes after an option and specifies
+            // details about it
+            if (!isValueCode(ch)) {
+                if (opt != Char.SP) {
+                    // @formatter:off
+                    final Option option = Option.builder(String.valueOf(opt))
+                            .hasArg(type != null)
+                            .required(required)
+                            .type(type)
+                            .converter(converter)
+                            .get();
+                    // @formatter:on
+                    // we have a previous one to deal with
+                    options.add(option);
+                    required = false;
+                    type = null;
+                    converter = Converter.DEFAULT;
+                }
+
+                opt = ch;
+            } else if (ch == '!') {
+                required = true;
+            } else {
+                type = getValueType(ch);
+                converter = TYPE_HANDLER.getConverter(type);
+            }
+        }
+
+        if (opt != Char.SP) {
+            final Option option = Option.builder(String.valueOf(opt)).hasArg(type != null).required(required).type(type).get();
+
+            // we have a final one to deal with
+            options.add(option);
+        }
+
+        return options.toArray(new Option[options.size()]);
+    }
+
     /**
      * Retrieve the class that {@code ch} represents.
      *
@@ -164,61 +242,32 @@ public class PatternOptionBuilder {
         return ch == '@' || ch == ':' || ch == '%' || ch == '+' || ch == '#' || ch == '<' || ch == '>' || ch == '*' || ch == '/' || ch == '!';
     }
 
+    /**
+     * Creates the converters of the value codes: the default converters, except for {@link #FILES_VALUE}.
+     *
+     * @return A new TypeHandler.
+     */
+    private static TypeHandler newTypeHandler() {
+        final Map<Class<?>, Converter<?, ? extends Throwable>> map = TypeHandler.createDefaultMap();
+        // Backward compatibility (probably).
+        map.put(FILES_VALUE, unsupported());
+        return new TypeHandler(map);
+    }
+
     /**
      * Returns the {@link Options} instance represented by {@code pattern}.
+     * <p>
+     * The options of the most recently used patterns are cached, each call returns a new {@link Options} holding copies of them.
+     * </p>
      *
      * @param pattern The pattern string
      * @return The {@link Options} instance
      */
     public static Options parsePattern(final String pattern) {
-        char opt = Char.SP;
-        boolean required = false;
-        Class<?> type = null;
-        Converter<?, ?> converter = Converter.DEFAULT;
-
         final Options options = new Options();
-
-        for (int i = 0; i < pattern.length(); i++) {
-            final char ch = pattern.charAt(i);
-
-            // a value code comes after an option and specifies
-            // details about it
-            if (!isValueCode(ch)) {
-                if (opt != Char.SP) {
-                    // @formatter:off
-                    final Option option = Option.builder(String.valueOf(opt))
-                            .hasArg(type != null)
-                            .required(required)
-                            .type(type)
-                            .converter(converter)
-                            .get();
-                    // @formatter:on
-                    // we have a previous one to deal with
-                    options.addOption(option);
-                    required = false;
-                    type = null;
-                    converter = Converter.DEFAULT;
-                }
-
-                opt = ch;
-            } else if (ch == '!') {
-                required = true;
-            } else {
-                type = getValueType(ch);
-                final Map<Class<?>, Converter<?, ? extends Throwable>> map = TypeHandler.createDefaultMap();
-                // Backward compatibility (probably).
-                map.put(FILES_VALUE, unsupported());
-                converter = new TypeHandler(map).getConverter(getValueType(ch));
-            }
-        }
-
-        if (opt != Char.SP) {
-            final Option option = Option.builder(String.valueOf(opt)).hasArg(type != null).required(required).type(type).get();
-
-            // we have a final one to deal with
-            options.addOption(option);
+        for (final Option option : PATTERN_CACHE.computeIfAbsent(pattern, PatternOptionBuilder::compilePattern)) {
+            options.addOption((Option) option.clone());
         }
-
         return options;
     }
 
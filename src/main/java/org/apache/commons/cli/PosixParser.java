@@ -18,8 +18,6 @@
 package org.apache.commons.cli;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Iterator;
 import java.util.List;
 
 import org.apache.commons.cli.help.OptionFormatter;
@@ -52,17 +50,6 @@ public class PosixParser extends Parser {
         // empty
     }
 
-    /**
-     * Adds the remaining tokens to the processed tokens list.
-     *
-     * @param iter An iterator over the remaining tokens.
-     */
-    private void addRemaining(final Iterator<String> iter) {
-        if (eatTheRest) {
-            iter.forEachRemaining(tokens::add);
-        }
-    }
-
     /**
      * Breaks {@code token} into its constituent parts using the following algorithm.
      *
@@ -137,54 +124,73 @@ public class PosixParser extends Parser {
     protected String[] flatten(final Options options, final String[] arguments, final boolean stopAtNonOption) throws ParseException {
         init();
         this.options = options;
-        // an iterator for the command line tokens
-        final Iterator<String> iter = Arrays.asList(arguments).iterator();
         // process each command line token
-        while (iter.hasNext()) {
-            // get the next command line token
-            final String token = iter.next();
-            if (token != null) {
-                // single or double hyphen
-                if (OptionFormatter.DEFAULT_OPT_PREFIX.equals(token) || OptionFormatter.DEFAULT_LONG_OPT_PREFIX.equals(token)) {
-                    tokens.add(token);
-                } else if (token.startsWith(OptionFormatter.DEFAULT_LONG_OPT_PREFIX)) {
-                    // handle long option --foo or --foo=bar
-                    final int pos = DefaultParser.indexOfEqual(token);
-                    final String opt = pos == -1 ? token : token.substring(0, pos); // --foo
-                    final List<String> matchingOpts = options.getMatchingOptions(opt);
-                    if (matchingOpts.isEmpty()) {
-                        processNonOptionToken(token, stopAtNonOption);
-                    } else if (matchingOpts.size() > 1) {
-                        throw new AmbiguousOptionException(opt, matchingOpts);
-                    } else {
-                        currentOption = options.getOption(matchingOpts.get(0));
-                        tokens.add(OptionFormatter.DEFAULT_LONG_OPT_PREFIX + currentOption.getLongOpt());
-                        if (pos != -1) {
-                            tokens.add(token.substring(pos + 1));
-                        }
-                    }
-                } else if (token.startsWith(OptionFormatter.DEFAULT_OPT_PREFIX)) {
-                    if (token.length() == 2 || options.hasOption(token)) {
-                        processOptionToken(token, stopAtNonOption);
-                    } else if (!options.getMatchingOptions(token).isEmpty()) {
-                        final List<String> matchingOpts = options.getMatchingOptions(token);
-                        if (matchingOpts.size() > 1) {
-                            throw new AmbiguousOptionException(token, matchingOpts);
-                        }
-                        final Option opt = options.getOption(matchingOpts.get(0));
-                        processOptionToken(OptionFormatter.DEFAULT_OPT_PREFIX + opt.getLongOpt(), stopAtNonOption);
+        for (final String token : arguments) {
+            if (eatTheRest) {
+                tokens.add(token);
+            } else {
+                flattenToken(token, stopAtNonOption);
+            }
+        }
+        return tokens.toArray(Util.EMPTY_STRING_ARRAY);
+    }
+
+    /**
+     * Flattens one command line token into the processed tokens list, see {@link #flatten(Options, String[], boolean)}.
+     *
+     * @param token The command line token, may be null.
+     * @param stopAtNonOption Specifies whether to stop flattening when an non option is found.
+     * @return whether the remaining command line tokens are added to the processed tokens list as they are.
+     * @throws ParseException if the token matches more than one long option.
+     */
+    private boolean flattenToken(final String token, final boolean stopAtNonOption) throws ParseException {
+        if (token != null) {
+            // single or double hyphen
+            if (OptionFormatter.DEFAULT_OPT_PREFIX.equals(token) || OptionFormatter.DEFAULT_LONG_OPT_PREFIX.equals(token)) {
+                tokens.add(token);
+            } else if (token.startsWith(OptionFormatter.DEFAULT_LONG_OPT_PREFIX)) {
+                // handle long option --foo or --foo=bar
+                final int pos = DefaultParser.indexOfEqual(token);
+                final String opt = pos == -1 ? token : token.substring(0, pos); // --foo
+                final List<String> matchingOpts = options.getMatchingOptions(opt);
+                if (matchingOpts.isEmpty()) {
+                    processNonOptionToken(token, stopAtNonOption);
+                } else if (matchingOpts.size() > 1) {
+                    throw new AmbiguousOptionException(opt, matchingOpts);
+                } else {
+                    currentOption = options.getOption(matchingOpts.get(0));
+                    tokens.add(OptionFormatter.DEFAULT_LONG_OPT_PREFIX + currentOption.getLongOpt());
+                    if (pos != -1) {
+                        tokens.add(token.substring(pos + 1));
                     }
-                    // requires bursting
-                    else {
-                        burstToken(token, stopAtNonOption);
+                }
+            } else if (token.startsWith(OptionFormatter.DEFAULT_OPT_PREFIX)) {
+                if (token.length() == 2 || options.hasOption(token)) {
+                    processOptionToken(token, stopAtNonOption);
+                } else if (!options.getMatchingOptions(token).isEmpty()) {
+                    final List<String> matchingOpts = options.getMatchingOptions(token);
+                    if (matchingOpts.size() > 1) {
+                        throw new AmbiguousOptionException(token, matchingOpts);
                     }
-                } else {
-                    processNonOptionToken(token, stopAtNonOption);
+                    final Option opt = options.getOption(matchingOpts.get(0));
+                    processOptionToken(OptionFormatter.DEFAULT_OPT_PREFIX + opt.getLongOpt(), stopAtNonOption);
                 }
+                // requires bursting
+                else {
+                    burstToken(token, stopAtNonOption);
+                }
+            } else {
+                processNonOptionToken(token, stopAtNonOption);
             }
-            addRemaining(iter);
         }
-        return tokens.toArray(Util.EMPTY_STRING_ARRAY);
+        return eatTheRest;
+    }
+
+    @Override
+    FlatteningIterator flatteningIterator(final Options options, final String[] arguments, final boolean stopAtNonOption) {
+        init();
+        this.options = options;
+        return new FlatteningIterator(arguments, tokens, token -> flattenToken(token, stopAtNonOption));
     }
 
     /**
@@ -23,10 +23,21 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URL;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * TypeHandler will handle the pluggable conversion and verification of Option types. It handles the mapping of classes to bot converters and verifiers. It
@@ -36,6 +47,11 @@ import java.util.Objects;
  * Options with custom converters and/or verifiers, using the default serialization methods, this class should be properly configured with the custom converters
  * and verifiers for the specific class.
  * </p>
+ * <p>
+ * A type without a registered converter uses {@code valueOf} if it is an enum, otherwise the converter registered for its nearest superclass other than
+ * {@link Object}, then for its nearest interface, otherwise {@link Converter#DEFAULT}. The converter found for such a type is cached, see
+ * {@link #clearCache()}.
+ * </p>
  */
 public class TypeHandler {
 
@@ -204,6 +220,24 @@ public class TypeHandler {
         return DEFAULT;
     }
 
+    /**
+     * Wraps the converter of a supertype so that it only returns instances of the Class.
+     *
+     * @param clazz     The Class.
+     * @param converter The converter registered for a supertype of the Class.
+     * @return A converter failing with a {@link ParseException} when {@code converter} returns a value that is not an instance of the Class.
+     */
+    private static Converter<Object, Exception> inherited(final Class<?> clazz, final Converter<?, ? extends Throwable> converter) {
+        return string -> {
+            final Object value = converter.apply(string);
+            if (value != null && !clazz.isInstance(value)) {
+                throw new ParseException(String.format("Unable to convert '%s' to %s, the converter returned a %s", string, clazz.getName(),
+                        value.getClass().getName()));
+            }
+            return value;
+        };
+    }
+
     /**
      * Returns the opened FileInputStream represented by {@code string}.
      *
@@ -247,6 +281,11 @@ public class TypeHandler {
         map.put(Float.class, Float::parseFloat);
         map.put(BigInteger.class, BigInteger::new);
         map.put(BigDecimal.class, BigDecimal::new);
+        map.put(Duration.class, Converter.DURATION);
+        map.put(Instant.class, Converter.INSTANT);
+        map.put(LocalDate.class, Converter.LOCAL_DATE);
+        map.put(LocalDateTime.class, Converter.LOCAL_DATE_TIME);
+        map.put(ZonedDateTime.class, Converter.ZONED_DATE_TIME);
         return map;
     }
 
@@ -258,6 +297,12 @@ public class TypeHandler {
      */
     private final Map<Class<?>, Converter<?, ? extends Throwable>> converterMap;
 
+    /** The converters resolved for types without a registered converter. */
+    private final Map<Class<?>, Converter<?, ?>> resolvedConverters = new ConcurrentHashMap<>();
+
+    /** The size of {@link #converterMap} when {@link #resolvedConverters} was last cleared. */
+    private volatile int resolvedMapSize;
+
     /**
      * Constructs a default initialized instance.
      */
@@ -276,19 +321,87 @@ public class TypeHandler {
      */
     public TypeHandler(final Map<Class<?>, Converter<?, ? extends Throwable>> converterMap) {
         this.converterMap = Objects.requireNonNull(converterMap, "converterMap");
+        this.resolvedMapSize = converterMap.size();
+    }
+
+    /**
+     * Clears the converters cached for types without a registered converter.
+     * <p>
+     * The cache is cleared when the size of the converter map changes. Call this method after replacing a converter registered for a superclass or an
+     * interface in the converter map.
+     * </p>
+     *
+     * @since 1.12.0
+     */
+    public void clearCache() {
+        resolvedConverters.clear();
+        resolvedMapSize = converterMap.size();
     }
 
     /**
-     * Gets the registered converter for the Class, or {@link Converter#DEFAULT} if absent.
+     * Gets the registered converter for the Class, otherwise a converter resolved from the Class hierarchy, or {@link Converter#DEFAULT} if none.
+     * <p>
+     * An enum without a registered converter is converted with {@link Enum#valueOf(Class, String)}. Another Class without a registered converter uses the
+     * converter registered for its nearest superclass other than {@link Object}, otherwise for its nearest interface. An inherited converter is checked to
+     * return an instance of the Class, another value fails the conversion with a {@link ParseException}.
+     * </p>
      *
      * @param <T>   The Class parameter type.
      * @param clazz The Class to get the Converter for.
-     * @return The registered converter if any, {@link Converter#DEFAULT} otherwise.
+     * @return The registered or resolved converter if any, {@link Converter#DEFAULT} otherwise.
      * @since 1.7.0
      */
     @SuppressWarnings("unchecked") // returned value will have type T because it is fixed by clazz
     public <T> Converter<T, ?> getConverter(final Class<T> clazz) {
-        return (Converter<T, ?>) converterMap.getOrDefault(clazz, Converter.DEFAULT);
+        if (clazz == null) {
+            return (Converter<T, ?>) converterMap.getOrDefault(clazz, Converter.DEFAULT);
+        }
+        final Converter<?, ?> registered = converterMap.get(clazz);
+        if (registered != null || converterMap.containsKey(clazz)) {
+            return (Converter<T, ?>) registered;
+        }
+        if (resolvedMapSize != converterMap.size()) {
+            clearCache();
+        }
+        return (Converter<T, ?>) resolvedConverters.computeIfAbsent(clazz, this::resolveConverter);
+    }
+
+    /**
+     * Resolves the converter of a Class without a registered converter.
+     *
+     * @param clazz The Class.
+     * @return The resolved converter, {@link Converter#DEFAULT} if none.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Converter<?, ?> resolveConverter(final Class<?> clazz) {
+        if (clazz.isEnum()) {
+            final Class<? extends Enum> enumClass = (Class<? extends Enum>) clazz;
+            return s -> Enum.valueOf(enumClass, s);
+        }
+        // Object is left out, its converter instantiates a class by name.
+        for (Class<?> superclass = clazz.getSuperclass(); superclass != null && superclass != Object.class; superclass = superclass.getSuperclass()) {
+            final Converter<?, ?> converter = converterMap.get(superclass);
+            if (converter != null) {
+                return inherited(clazz, converter);
+            }
+        }
+        // interfaces breadth-first, the ones of the Class and its superclasses first
+        final Deque<Class<?>> interfaces = new ArrayDeque<>();
+        for (Class<?> type = clazz; type != null; type = type.getSuperclass()) {
+            interfaces.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        final Set<Class<?>> visited = new HashSet<>();
+        while (!interfaces.isEmpty()) {
+            final Class<?> type = interfaces.poll();
+            if (visited.add(type)) {
+                final Converter<?, ?> converter = converterMap.get(type);
+                if (converter != null) {
+                    return inherited(clazz, converter);
+                }
+                interfaces.addAll(Arrays.asList(type.getInterfaces()));
+            }
+        }
+        return Converter.DEFAULT;
     }
 
 }
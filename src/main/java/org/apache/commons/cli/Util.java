@@ -29,6 +29,90 @@ final class Util {
      */
     static final String[] EMPTY_STRING_ARRAY = {};
 
+    /**
+     * Tests whether a character is an ASCII digit.
+     *
+     * @param c   The character to test.
+     * @param hex whether hexadecimal digits are accepted.
+     * @return whether {@code c} is a digit.
+     */
+    private static boolean isDigit(final char c, final boolean hex) {
+        return c >= '0' && c <= '9' || hex && (c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F');
+    }
+
+    /**
+     * Tests whether {@link Double#parseDouble(String)} accepts the given characters, without parsing them or throwing an exception.
+     * <p>
+     * Accepts, after removing leading and trailing whitespace like {@link String#trim()}, an optional sign followed by {@code NaN}, {@code Infinity}, a
+     * decimal number with an optional exponent, or a hexadecimal number with a binary exponent. The numbers may end with a {@code f}, {@code F},
+     * {@code d} or {@code D} suffix.
+     * </p>
+     *
+     * @param str The characters to test.
+     * @return whether {@code str} is a floating-point literal.
+     */
+    static boolean isDouble(final CharSequence str) {
+        int start = 0;
+        int end = str.length();
+        while (start < end && str.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && str.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int i = start;
+        if (i < end && (str.charAt(i) == '+' || str.charAt(i) == '-')) {
+            i++;
+        }
+        if (i < end && str.charAt(i) == 'N') {
+            return isRegion(str, i, end, "NaN");
+        }
+        if (i < end && str.charAt(i) == 'I') {
+            return isRegion(str, i, end, "Infinity");
+        }
+        final boolean hex = i + 1 < end && str.charAt(i) == '0' && (str.charAt(i + 1) == 'x' || str.charAt(i + 1) == 'X');
+        if (hex) {
+            i += 2;
+        }
+        // the significand
+        int digits = 0;
+        while (i < end && isDigit(str.charAt(i), hex)) {
+            i++;
+            digits++;
+        }
+        if (i < end && str.charAt(i) == '.') {
+            i++;
+            while (i < end && isDigit(str.charAt(i), hex)) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        // the exponent, required for hexadecimal numbers
+        if (i < end && (hex ? str.charAt(i) == 'p' || str.charAt(i) == 'P' : str.charAt(i) == 'e' || str.charAt(i) == 'E')) {
+            i++;
+            if (i < end && (str.charAt(i) == '+' || str.charAt(i) == '-')) {
+                i++;
+            }
+            final int exponentStart = i;
+            while (i < end && isDigit(str.charAt(i), false)) {
+                i++;
+            }
+            if (i == exponentStart) {
+                return false;
+            }
+        } else if (hex) {
+            return false;
+        }
+        if (i == end - 1) {
+            final char suffix = str.charAt(i);
+            return suffix == 'f' || suffix == 'F' || suffix == 'd' || suffix == 'D';
+        }
+        return i == end;
+    }
+
     /**
      * Tests whether the given array is null or empty.
      *
@@ -49,6 +133,27 @@ final class Util {
         return str == null || str.isEmpty();
     }
 
+    /**
+     * Tests whether a range of characters is equal to a string.
+     *
+     * @param str   The characters holding the range.
+     * @param start The start index of the range, inclusive.
+     * @param end   The end index of the range, exclusive.
+     * @param text  The string to compare to.
+     * @return whether the range is equal to {@code text}.
+     */
+    private static boolean isRegion(final CharSequence str, final int start, final int end, final String text) {
+        if (end - start != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (str.charAt(start + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Removes the leading and trailing quotes from {@code str}. E.g. if str is '"one two"', then 'one two' is returned.
      *
@@ -66,6 +171,30 @@ final class Util {
         return str;
     }
 
+    /**
+     * Counts the hyphens {@link #stripLeadingHyphens(String)} removes from the beginning of {@code str}.
+     *
+     * @param str The string to test.
+     * @return 2 for a long option prefix, 1 for a short option prefix, 0 otherwise.
+     */
+    static int leadingHyphens(final String str) {
+        return isEmpty(str) ? 0 : leadingHyphens(str, 0);
+    }
+
+    /**
+     * Counts the hyphens {@link #stripLeadingHyphens(String)} removes from the beginning of the part of {@code str} starting at {@code from}.
+     *
+     * @param str  The string to test, not null.
+     * @param from The index of the part to test.
+     * @return 2 for a long option prefix, 1 for a short option prefix, 0 otherwise.
+     */
+    static int leadingHyphens(final String str, final int from) {
+        if (str.startsWith(OptionFormatter.DEFAULT_LONG_OPT_PREFIX, from)) {
+            return 2;
+        }
+        return str.startsWith(OptionFormatter.DEFAULT_OPT_PREFIX, from) ? 1 : 0;
+    }
+
     /**
      * Removes the hyphens from the beginning of {@code str} and return the new String.
      *
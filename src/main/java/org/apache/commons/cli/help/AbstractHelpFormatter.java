@@ -18,11 +18,16 @@ package org.apache.commons.cli.help;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -62,6 +67,9 @@ public abstract class AbstractHelpFormatter {
         /** The string to separate option groups. */
         private String optionGroupSeparator = DEFAULT_OPTION_GROUP_SEPARATOR;
 
+        /** Flag indicating if the rendered help is cached. */
+        private boolean cacheHelp;
+
         /**
          * Constructs a new instance.
          * <p>
@@ -118,6 +126,34 @@ public abstract class AbstractHelpFormatter {
             return optionGroupSeparator;
         }
 
+        /**
+         * Tests whether the rendered help is cached.
+         *
+         * @return whether the rendered help is cached.
+         * @since 1.12.0
+         */
+        protected boolean isCacheHelp() {
+            return cacheHelp;
+        }
+
+        /**
+         * Sets if the help rendered by {@code printHelp} is cached and replayed.
+         * <p>
+         * When true, and the {@link HelpAppendable} is a plain {@link TextHelpAppendable}, the help of a frozen {@link Options} instance, see
+         * {@link Options#freeze()}, is rendered once per instance, syntax, header, footer, syntax prefix and text style of the appendable, and later calls
+         * append the rendered text. The help of Options that are not frozen is always rendered, since their options may change. The most recently printed
+         * helps are kept, and the cache holds strong references to their Options. The help is not cached by default.
+         * </p>
+         *
+         * @param cacheHelp whether the rendered help is cached.
+         * @return {@code this} instance.
+         * @since 1.12.0
+         */
+        public B setCacheHelp(final boolean cacheHelp) {
+            this.cacheHelp = cacheHelp;
+            return asThis();
+        }
+
         /**
          * Sets the comparator to use for sorting options. If set to {@code null} no sorting is performed.
          *
@@ -179,6 +215,27 @@ public abstract class AbstractHelpFormatter {
      */
     public static final String DEFAULT_SYNTAX_PREFIX = "usage: ";
 
+    /** The number of rendered helps kept by the help cache. */
+    private static final int HELP_CACHE_SIZE = 16;
+
+    /**
+     * Creates a help cache keeping the most recently used rendered helps.
+     *
+     * @return A new thread-safe help cache.
+     */
+    private static Map<List<Object>, String> newHelpCache() {
+        return Collections.synchronizedMap(new LinkedHashMap<List<Object>, String>(HELP_CACHE_SIZE + 1, 1f, true) {
+
+            /** The serial version UID. */
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<List<Object>, String> eldest) {
+                return size() > HELP_CACHE_SIZE;
+            }
+        });
+    }
+
     /** The comparator for sorting {@link Option} collections */
     private final Comparator<Option> comparator;
 
@@ -195,6 +252,9 @@ public abstract class AbstractHelpFormatter {
     /** The separator between {@link OptionGroup} components. */
     private final String optionGroupSeparator;
 
+    /** The rendered helps keyed by their inputs, including their frozen Options, or null if the help is not cached. */
+    private final Map<List<Object>, String> helpCache;
+
     /**
      * The phrase printed before the syntax line.
      */
@@ -210,6 +270,7 @@ public abstract class AbstractHelpFormatter {
         this.optionFormatBuilder = Objects.requireNonNull(builder.getOptionFormatBuilder(), "optionFormatBuilder");
         this.comparator = Objects.requireNonNull(builder.getComparator(), "comparator");
         this.optionGroupSeparator = Util.defaultValue(builder.getOptionGroupSeparator(), "");
+        this.helpCache = builder.isCacheHelp() ? newHelpCache() : null;
     }
 
     /**
@@ -329,17 +390,49 @@ public abstract class AbstractHelpFormatter {
         if (Util.isEmpty(cmdLineSyntax)) {
             throw new IllegalArgumentException("cmdLineSyntax not provided");
         }
+        // only a plain TextHelpAppendable is known to render the same text for the same inputs, and only frozen Options for the same instance
+        if (helpCache == null || helpAppendable.getClass() != TextHelpAppendable.class || !options.isFrozen()) {
+            printHelp(helpAppendable, cmdLineSyntax, header, options, footer, autoUsage);
+            return;
+        }
+        final TextStyle style = ((TextHelpAppendable) helpAppendable).getTextStyleBuilder().get();
+        final List<Object> key = Arrays.asList(options, syntaxPrefix, cmdLineSyntax, header, footer, autoUsage, style.toString());
+        String help = helpCache.get(key);
+        if (help == null) {
+            final StringBuilder sb = new StringBuilder();
+            final TextHelpAppendable recorder = new TextHelpAppendable(sb);
+            recorder.getTextStyleBuilder().setTextStyle(style);
+            printHelp(recorder, cmdLineSyntax, header, options, footer, autoUsage);
+            help = sb.toString();
+            helpCache.put(key, help);
+        }
+        helpAppendable.append(help);
+    }
+
+    /**
+     * Prints the help for {@link Options} with the specified command line syntax to a {@link HelpAppendable}.
+     *
+     * @param appendable    The {@link HelpAppendable} to print to.
+     * @param cmdLineSyntax The syntax for this application.
+     * @param header        The banner to display at the beginning of the help.
+     * @param options       The collection of {@link Option} objects to print.
+     * @param footer        The banner to display at the end of the help.
+     * @param autoUsage     whether to print an automatically generated usage statement.
+     * @throws IOException If the output could not be written to the {@link HelpAppendable}.
+     */
+    private void printHelp(final HelpAppendable appendable, final String cmdLineSyntax, final String header, final Options options, final String footer,
+            final boolean autoUsage) throws IOException {
         if (autoUsage) {
-            helpAppendable.appendParagraphFormat("%s %s %s", syntaxPrefix, cmdLineSyntax, toSyntaxOptions(options));
+            appendable.appendParagraphFormat("%s %s %s", syntaxPrefix, cmdLineSyntax, toSyntaxOptions(options));
         } else {
-            helpAppendable.appendParagraphFormat("%s %s", syntaxPrefix, cmdLineSyntax);
+            appendable.appendParagraphFormat("%s %s", syntaxPrefix, cmdLineSyntax);
         }
         if (!Util.isEmpty(header)) {
-            helpAppendable.appendParagraph(header);
+            appendable.appendParagraph(header);
         }
-        helpAppendable.appendTable(getTableDefinition(options.getOptions()));
+        appendable.appendTable(getTableDefinition(options.getOptions()));
         if (!Util.isEmpty(footer)) {
-            helpAppendable.appendParagraph(footer);
+            appendable.appendParagraph(footer);
         }
     }
 
@@ -440,8 +533,8 @@ public abstract class AbstractHelpFormatter {
      * @return The string representation of the options as used in the syntax display.
      */
     protected String toSyntaxOptions(final Iterable<Option> options, final Function<Option, OptionGroup> lookup) {
-        // list of groups that have been processed.
-        final Collection<OptionGroup> processedGroups = new ArrayList<>();
+        // set of groups that have been processed.
+        final Set<OptionGroup> processedGroups = Collections.newSetFromMap(new IdentityHashMap<>());
         final List<Option> optList = sort(options);
         final StringBuilder buff = new StringBuilder();
         String prefix = "";
@@ -452,11 +545,9 @@ public abstract class AbstractHelpFormatter {
             final OptionGroup optionGroup = lookup.apply(option);
             // if the option is part of a group
             if (optionGroup != null) {
-                // and if the group has not already been processed
-                if (!processedGroups.contains(optionGroup)) {
-                    // add the group to the processed list
-                    processedGroups.add(optionGroup);
-                    // add the usage clause
+                // and if the group has not already been processed, add it to the processed groups
+                if (processedGroups.add(optionGroup)) {
+                    // add the usage clause, once per group
                     buff.append(prefix).append(toSyntaxOptions(optionGroup));
                     prefix = " ";
                 }
@@ -115,6 +115,25 @@ public class TextHelpAppendable extends FilterHelpAppendable {
     /** Defines the TextStyle for paragraph, and associated output formats. */
     private final TextStyle.Builder textStyleBuilder;
 
+    /**
+     * Whether the output is rendered through {@link #makeColumnQueue(CharSequence, TextStyle)}, {@link #makeColumnQueues(List, List)} and
+     * {@link #writeColumnQueues(List, List)}, which a subclass may override, so for any instance of a subclass. Otherwise lines are wrapped by index ranges
+     * and written from {@link #lineBuffer}.
+     */
+    private final boolean queueRendering;
+
+    /** The line being written, reused for every line. */
+    private final StringBuilder lineBuffer = new StringBuilder();
+
+    /**
+     * The lines of the text or table row being written, reused for every text and row. The lines are only appended to the output once all of them are
+     * wrapped, so that a wrapping failure writes nothing, as with the queues.
+     */
+    private final StringBuilder entryBuffer = new StringBuilder();
+
+    /** The wrap positions in the cells of the table row being written, reused for every row. */
+    private int[] cellPositions = {};
+
     /**
      * Constructs an appendable filter built on top of the specified underlying appendable.
      *
@@ -123,6 +142,7 @@ public class TextHelpAppendable extends FilterHelpAppendable {
      */
     public TextHelpAppendable(final Appendable output) {
         super(output);
+        queueRendering = getClass() != TextHelpAppendable.class;
         // @formatter:off
         textStyleBuilder = TextStyle.builder()
             .setMaxWidth(DEFAULT_WIDTH)
@@ -208,10 +228,9 @@ public class TextHelpAppendable extends FilterHelpAppendable {
             final char[] fillChars = { '=', '%', '+', '_' };
             final int idx = Math.min(level, fillChars.length) - 1;
             final TextStyle style = textStyleBuilder.get();
-            final Queue<String> queue = makeColumnQueue(text, style);
-            queue.add(Util.repeatSpace(style.getLeftPad()) + Util.repeat(Math.min(text.length(), style.getMaxWidth()), fillChars[idx]));
-            queue.add(BLANK_LINE);
-            printQueue(queue);
+            printText(text, style);
+            printUnderline(text, style, fillChars[idx]);
+            printLine(BLANK_LINE);
         }
     }
 
@@ -221,10 +240,9 @@ public class TextHelpAppendable extends FilterHelpAppendable {
             final TextStyle.Builder builder = TextStyle.builder().setLeftPad(textStyleBuilder.getLeftPad()).setIndent(DEFAULT_LIST_INDENT);
             int i = 1;
             for (final CharSequence line : list) {
-                final String entry = ordered ? String.format(" %s. %s", i++, Util.defaultValue(line, BLANK_LINE))
-                        : String.format(" * %s", Util.defaultValue(line, BLANK_LINE));
+                final String entry = ordered ? " " + i++ + ". " + Util.defaultValue(line, BLANK_LINE) : " * " + Util.defaultValue(line, BLANK_LINE);
                 builder.setMaxWidth(Math.min(textStyleBuilder.getMaxWidth(), entry.length()));
-                printQueue(makeColumnQueue(entry, builder.get()));
+                printText(entry, builder.get());
             }
             output.append(System.lineSeparator());
         }
@@ -233,9 +251,8 @@ public class TextHelpAppendable extends FilterHelpAppendable {
     @Override
     public void appendParagraph(final CharSequence paragraph) throws IOException {
         if (!Util.isEmpty(paragraph)) {
-            final Queue<String> queue = makeColumnQueue(paragraph, textStyleBuilder.get());
-            queue.add(BLANK_LINE);
-            printQueue(queue);
+            printText(paragraph, textStyleBuilder.get());
+            printLine(BLANK_LINE);
         }
     }
 
@@ -246,9 +263,9 @@ public class TextHelpAppendable extends FilterHelpAppendable {
         appendParagraph(table.caption());
         final List<TextStyle> headerStyles = new ArrayList<>();
         table.columnTextStyles().forEach(style -> headerStyles.add(TextStyle.builder().setTextStyle(style).setAlignment(TextStyle.Alignment.CENTER).get()));
-        writeColumnQueues(makeColumnQueues(table.headers(), headerStyles), headerStyles);
+        writeRow(table.headers(), headerStyles);
         for (final List<String> row : table.rows()) {
-            writeColumnQueues(makeColumnQueues(row, table.columnTextStyles()), table.columnTextStyles());
+            writeRow(row, table.columnTextStyles());
         }
         output.append(System.lineSeparator());
     }
@@ -257,10 +274,9 @@ public class TextHelpAppendable extends FilterHelpAppendable {
     public void appendTitle(final CharSequence title) throws IOException {
         if (!Util.isEmpty(title)) {
             final TextStyle style = textStyleBuilder.get();
-            final Queue<String> queue = makeColumnQueue(title, style);
-            queue.add(Util.repeatSpace(style.getLeftPad()) + Util.repeat(Math.min(title.length(), style.getMaxWidth()), '#'));
-            queue.add(BLANK_LINE);
-            printQueue(queue);
+            printText(title, style);
+            printUnderline(title, style, '#');
+            printLine(BLANK_LINE);
         }
     }
 
@@ -300,6 +316,23 @@ public class TextHelpAppendable extends FilterHelpAppendable {
         return textStyleBuilder;
     }
 
+    /**
+     * Appends the next wrapped line of a text to {@link #lineBuffer}, like an element of {@link #makeColumnQueue(CharSequence, TextStyle)}.
+     *
+     * @param text    The text to wrap.
+     * @param wrapPos The position of the line in the text, less than the length of the text.
+     * @param style   The TextStyle to guide the wrapping.
+     * @return The position of the next line in the text.
+     */
+    private int appendWrappedLine(final CharSequence text, final int wrapPos, final TextStyle style) {
+        final int workingWidth = wrapPos == 0 ? style.getMaxWidth() : style.getMaxWidth() - style.getIndent();
+        final int lastPos = indexOfWrap(text, workingWidth, wrapPos);
+        Util.appendSpaces(lineBuffer, style.getLeftPad());
+        style.pad(wrapPos > 0, text, wrapPos, lastPos, lineBuffer);
+        final int nextPos = Util.indexOfNonWhitespace(text, lastPos);
+        return nextPos == -1 ? lastPos + 1 : nextPos;
+    }
+
     /**
      * Creates a queue comprising strings extracted from columnData where the alignment and length are determined by the style.
      *
@@ -341,6 +374,21 @@ public class TextHelpAppendable extends FilterHelpAppendable {
         return result;
     }
 
+    /**
+     * Prints a line without its trailing whitespace.
+     *
+     * @param line The line to print.
+     * @throws IOException on output error.
+     */
+    private void printLine(final CharSequence line) throws IOException {
+        if (line != lineBuffer) {
+            lineBuffer.setLength(0);
+            lineBuffer.append(line);
+        }
+        Util.rtrim(lineBuffer).append(System.lineSeparator());
+        append(lineBuffer);
+    }
+
     /**
      * Prints a queue of text.
      *
@@ -349,10 +397,49 @@ public class TextHelpAppendable extends FilterHelpAppendable {
      */
     private void printQueue(final Queue<String> queue) throws IOException {
         for (final String s : queue) {
-            appendFormat("%s%n", Util.rtrim(s));
+            printLine(s);
+        }
+    }
+
+    /**
+     * Prints wrapped text, appending its lines once all of them are wrapped.
+     *
+     * @param text  The text to wrap.
+     * @param style The TextStyle to guide the wrapping.
+     * @throws IOException on output error.
+     */
+    private void printText(final CharSequence text, final TextStyle style) throws IOException {
+        if (queueRendering) {
+            printQueue(makeColumnQueue(text, style));
+            return;
+        }
+        entryBuffer.setLength(0);
+        int wrapPos = 0;
+        while (wrapPos < text.length()) {
+            lineBuffer.setLength(0);
+            wrapPos = appendWrappedLine(text, wrapPos, style);
+            entryBuffer.append(Util.rtrim(lineBuffer)).append(System.lineSeparator());
+        }
+        if (entryBuffer.length() > 0) {
+            append(entryBuffer);
         }
     }
 
+    /**
+     * Prints the underline of a header or title.
+     *
+     * @param text     The underlined text.
+     * @param style    The TextStyle of the text.
+     * @param fillChar The character of the underline.
+     * @throws IOException on output error.
+     */
+    private void printUnderline(final CharSequence text, final TextStyle style, final char fillChar) throws IOException {
+        lineBuffer.setLength(0);
+        Util.appendSpaces(lineBuffer, style.getLeftPad());
+        Util.appendRepeat(lineBuffer, Math.min(text.length(), style.getMaxWidth()), fillChar);
+        printLine(lineBuffer);
+    }
+
     /**
      * Prints wrapped text using the TextHelpAppendable output style.
      *
@@ -360,7 +447,7 @@ public class TextHelpAppendable extends FilterHelpAppendable {
      * @throws IOException on output error.
      */
     public void printWrapped(final String text) throws IOException {
-        printQueue(makeColumnQueue(text, this.textStyleBuilder.get()));
+        printText(text, this.textStyleBuilder.get());
     }
 
     /**
@@ -371,7 +458,7 @@ public class TextHelpAppendable extends FilterHelpAppendable {
      * @throws IOException on output error.
      */
     public void printWrapped(final String text, final TextStyle style) throws IOException {
-        printQueue(makeColumnQueue(text, style));
+        printText(text, style);
     }
 
     /**
@@ -462,4 +549,48 @@ public class TextHelpAppendable extends FilterHelpAppendable {
             output.append(System.lineSeparator());
         }
     }
+
+    /**
+     * Writes a row of a table, appending its lines once the text of every cell is wrapped, like {@link #writeColumnQueues(List, List)} with the queues of
+     * {@link #makeColumnQueues(List, List)}, wrapping the cells by index ranges.
+     *
+     * @param columnData The text of each cell of the row.
+     * @param styles     The TextStyle for each column.
+     * @throws IOException on output error.
+     */
+    private void writeRow(final List<String> columnData, final List<TextStyle> styles) throws IOException {
+        if (queueRendering) {
+            writeColumnQueues(makeColumnQueues(columnData, styles), styles);
+            return;
+        }
+        final int columns = columnData.size();
+        if (cellPositions.length < columns) {
+            cellPositions = new int[columns];
+        }
+        final int[] positions = cellPositions;
+        Arrays.fill(positions, 0, columns, 0);
+        final int leftPad = textStyleBuilder.getLeftPad();
+        entryBuffer.setLength(0);
+        boolean moreData = true;
+        while (moreData) {
+            lineBuffer.setLength(0);
+            Util.appendSpaces(lineBuffer, leftPad);
+            moreData = false;
+            for (int i = 0; i < columns; i++) {
+                final TextStyle style = styles.get(i);
+                final String text = columnData.get(i);
+                final int start = lineBuffer.length();
+                if (positions[i] < text.length()) {
+                    positions[i] = appendWrappedLine(text, positions[i], style);
+                }
+                if (lineBuffer.length() == start) {
+                    // an exhausted or empty cell
+                    Util.appendSpaces(lineBuffer, style.getMaxWidth() + style.getLeftPad());
+                }
+                moreData |= positions[i] < text.length();
+            }
+            entryBuffer.append(lineBuffer).append(System.lineSeparator());
+        }
+        output.append(entryBuffer);
+    }
 }
@@ -345,47 +345,61 @@ public final class TextStyle {
         if (text.length() >= maxWidth) {
             return text;
         }
-        String indentPad;
-        String rest;
-        final StringBuilder sb = new StringBuilder();
+        return pad(addIndent, text, 0, text.length(), new StringBuilder()).toString();
+    }
+
+    /**
+     * Appends a range of characters padded to the maximum width or optionally to the maximum width - indent, like {@link #pad(boolean, CharSequence)}.
+     *
+     * @param addIndent if {@code true} account for the indent when padding the range.
+     * @param text      The text holding the range to pad.
+     * @param start     The start index of the range, inclusive.
+     * @param end       The end index of the range, exclusive.
+     * @param sb        The StringBuilder to append the padded range to.
+     * @return The StringBuilder.
+     */
+    StringBuilder pad(final boolean addIndent, final CharSequence text, final int start, final int end, final StringBuilder sb) {
+        final int length = end - start;
+        if (length >= maxWidth) {
+            return sb.append(text, start, end);
+        }
         switch (alignment) {
         case CENTER:
             int padLen;
             if (maxWidth == UNSET_MAX_WIDTH) {
                 padLen = addIndent ? indent : 0;
             } else {
-                padLen = maxWidth - text.length();
+                padLen = maxWidth - length;
             }
             final int left = padLen / 2;
-            indentPad = Util.repeatSpace(left);
-            rest = Util.repeatSpace(padLen - left);
-            sb.append(indentPad).append(text).append(rest);
+            Util.appendSpaces(sb, left).append(text, start, end);
+            Util.appendSpaces(sb, padLen - left);
             break;
         case LEFT:
         case RIGHT:
         default: // default should never happen. It is here to keep code coverage happy.
+            int indentLen = 0;
+            int restLen = 0;
             if (maxWidth == UNSET_MAX_WIDTH) {
-                indentPad = addIndent ? Util.repeatSpace(indent) : "";
-                rest = "";
+                indentLen = addIndent ? indent : 0;
             } else {
-                int restLen = maxWidth - text.length();
+                restLen = maxWidth - length;
                 if (addIndent && restLen >= indent) {
-                    indentPad = Util.repeatSpace(indent);
+                    indentLen = indent;
                     restLen -= indent;
-                } else {
-                    indentPad = "";
                 }
-                rest = Util.repeatSpace(restLen);
             }
-
+            Util.appendSpaces(sb, indentLen);
             if (alignment == Alignment.LEFT) {
-                sb.append(indentPad).append(text).append(rest);
+                sb.append(text, start, end);
+                Util.appendSpaces(sb, restLen);
             } else {
-                sb.append(indentPad).append(rest).append(text);
+                Util.appendSpaces(sb, restLen);
+                sb.append(text, start, end);
             }
             break;
         }
-        return sb.toString();
+        return sb;
     }
 
     @Override
@@ -29,6 +29,44 @@ final class Util {
      */
     private static final int NOT_FOUND = -1;
 
+    /** The number of characters of {@link #SPACES}. */
+    private static final int SPACES_LENGTH = 64;
+
+    /** The spaces appended by {@link #appendRepeat(StringBuilder, int, char)}. */
+    private static final char[] SPACES = repeatSpace(SPACES_LENGTH).toCharArray();
+
+    /**
+     * Appends a character repeated a number of times to a StringBuilder.
+     *
+     * @param sb       The StringBuilder to append to.
+     * @param len      The number of characters to append, nothing is appended if it is not positive.
+     * @param fillChar The character to append.
+     * @return The StringBuilder.
+     */
+    static StringBuilder appendRepeat(final StringBuilder sb, final int len, final char fillChar) {
+        if (fillChar == ' ') {
+            for (int rest = len; rest > 0; rest -= SPACES_LENGTH) {
+                sb.append(SPACES, 0, Math.min(rest, SPACES_LENGTH));
+            }
+        } else {
+            for (int i = 0; i < len; i++) {
+                sb.append(fillChar);
+            }
+        }
+        return sb;
+    }
+
+    /**
+     * Appends spaces to a StringBuilder.
+     *
+     * @param sb  The StringBuilder to append to.
+     * @param len The number of spaces to append, nothing is appended if it is not positive.
+     * @return The StringBuilder.
+     */
+    static StringBuilder appendSpaces(final StringBuilder sb, final int len) {
+        return appendRepeat(sb, len, ' ');
+    }
+
     /**
      * Returns the {@code defaultValue} if {@code str} is empty.
      *
@@ -131,6 +169,21 @@ final class Util {
         return s.substring(0, pos);
     }
 
+    /**
+     * Removes the trailing whitespace from the specified StringBuilder.
+     *
+     * @param sb The StringBuilder to remove the trailing padding from.
+     * @return The StringBuilder.
+     */
+    static StringBuilder rtrim(final StringBuilder sb) {
+        int pos = sb.length();
+        while (pos > 0 && isWhitespace(sb.charAt(pos - 1))) {
+            --pos;
+        }
+        sb.setLength(pos);
+        return sb;
+    }
+
     private Util() {
         // no instances
     }
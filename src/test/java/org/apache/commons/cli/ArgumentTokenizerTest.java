@@ -0,0 +1,90 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+class ArgumentTokenizerTest {
+
+    private static List<String> tokenize(final String input) {
+        final List<String> tokens = new ArrayList<>();
+        new ArgumentTokenizer(new StringReader(input)).forEachRemaining(tokens::add);
+        return tokens;
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(Arrays.asList(), tokenize(""));
+        assertEquals(Arrays.asList(), tokenize(" \n\t "));
+        final ArgumentTokenizer tokenizer = new ArgumentTokenizer(new StringReader(" "));
+        assertFalse(tokenizer.hasNext());
+        assertThrows(NoSuchElementException.class, tokenizer::next);
+    }
+
+    @Test
+    void testIOException() {
+        final Reader reader = new Reader() {
+            @Override
+            public void close() {
+                // empty
+            }
+
+            @Override
+            public int read(final char[] cbuf, final int off, final int len) throws IOException {
+                throw new IOException("broken pipe");
+            }
+        };
+        assertThrows(UncheckedIOException.class, () -> new ArgumentTokenizer(reader).hasNext());
+    }
+
+    @Test
+    void testLongInput() {
+        final StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            input.append("file").append(i).append(i % 2 == 0 ? ' ' : '\n');
+        }
+        final List<String> tokens = tokenize(input.toString());
+        assertEquals(10_000, tokens.size());
+        assertEquals("file9999", tokens.get(9999));
+    }
+
+    @Test
+    void testQuotes() {
+        assertEquals(Arrays.asList("-f", "a b", "it's", "", "x\"y", "c:\\dir", "mixed words"), tokenize("-f \"a b\" \"it's\" '' 'x\"y' c:\\dir mixed' 'words"));
+        assertEquals(Arrays.asList("a\tb", "q\"", "\\"), tokenize("\"a\\tb\" \"q\\\"\" \"\\\\\""));
+        assertEquals(Arrays.asList("unterminated quote"), tokenize("\"unterminated quote"));
+    }
+
+    @Test
+    void testWhitespace() {
+        assertEquals(Arrays.asList("-a", "--bee", "c"), tokenize("  -a\t--bee\r\n c\n"));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Options and canned command lines shared by the JMH benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    /** Prefix of the long names of the generated options. */
+    static final String GENERATED_PREFIX = "generated-option-";
+
+    /** Short option bundle, with an argument attached to the last option of a bundle. */
+    static final String[] SHORT_BUNDLE = { "-abc", "-ffile.txt", "-ab", "arg1", "arg2" };
+
+    /** Unique prefixes of long options, with and without an equals sign. */
+    static final String[] PARTIAL_LONG = { "--verb", "--out=target/out.txt", "--fil", "file.txt", "arg1" };
+
+    /** Java properties in the attached and detached forms. */
+    static final String[] PROPERTIES = { "-Dkey1=value1", "-Dkey2=value2", "-Dkey3=value3", "-D", "key4=value4", "-Dflag" };
+
+    /** Arguments for the Solr-like create tool, see {@link #createSolrOptions()}. */
+    static final String[] SOLR = { "--name", "films", "--shards", "2", "-rf", "3", "--zk-host", SolrCliTest.ZK_HOST, "--confdir", "_default", "-v",
+            "--credentials", "solr:SolrRocks" };
+
+    /**
+     * Creates the arguments which use the last generated option of {@link #createOptions(int)}, once in its long form and once in its short form.
+     *
+     * @param size the number of generated options.
+     * @return the arguments.
+     */
+    static String[] createLastOptionArgs(final int size) {
+        return new String[] { "--" + GENERATED_PREFIX + (size - 1), "1", "-g" + (size - 1), "2", "arg1" };
+    }
+
+    /**
+     * Creates the arguments which use every generated option of {@link #createOptions(int)} once.
+     *
+     * @param size the number of generated options.
+     * @return the arguments.
+     */
+    static String[] createAllOptionArgs(final int size) {
+        final List<String> args = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            args.add("--" + GENERATED_PREFIX + i);
+            args.add(Integer.toString(i));
+        }
+        args.add("-abc");
+        args.add("-Dkey=value");
+        return args.toArray(Util.EMPTY_STRING_ARRAY);
+    }
+
+    /**
+     * Creates Options with the options used by the canned workloads and {@code size} generated options taking a number argument.
+     *
+     * @param size the number of generated options.
+     * @return the Options.
+     */
+    static Options createOptions(final int size) {
+        final Options options = new Options();
+        options.addOption("a", "all", false, "Include all entries.");
+        options.addOption("b", "block-size", false, "Use blocks.");
+        options.addOption("c", "color", false, "Colorize the output.");
+        options.addOption(Option.builder("f").longOpt("file").hasArg().argName("FILE").desc("The input file.").get());
+        options.addOption(Option.builder().longOpt("output").hasArg().argName("FILE").desc("The output file.").get());
+        options.addOption(Option.builder().longOpt("verbose").desc("Be verbose.").get());
+        options.addOption(Option.builder("D").hasArgs().valueSeparator().argName("property=value").desc("Use value for given property.").get());
+        for (int i = 0; i < size; i++) {
+            options.addOption(Option.builder("g" + i).longOpt(GENERATED_PREFIX + i).hasArg().argName("ARG").desc("Generated option number " + i + '.')
+                    .type(i % 2 == 0 ? String.class : Integer.class).get());
+        }
+        return options;
+    }
+
+    /**
+     * Creates the Options of the Solr-like create tool defined in {@link SolrCreateToolTest}.
+     *
+     * @return the Options.
+     */
+    static Options createSolrOptions() {
+        final Options options = new Options();
+        options.addOption(SolrCliTest.OPTION_ZKHOST);
+        options.addOption(SolrCliTest.OPTION_SOLRURL);
+        options.addOption(SolrCliTest.OPTION_ZKHOST_DEPRECATED);
+        options.addOption(SolrCliTest.OPTION_SOLRURL_DEPRECATED);
+        options.addOption(SolrCliTest.OPTION_VERBOSE);
+        options.addOption(SolrCliTest.OPTION_HELP);
+        options.addOption(SolrCliTest.OPTION_CREDENTIALS);
+        options.addOption(Option.builder("c").longOpt("name").argName("NAME").hasArg().required().desc("Name of collection or core to create.").get());
+        options.addOption(Option.builder("s").longOpt("shards").argName("#").hasArg().desc("Number of shards; default is 1.").get());
+        options.addOption(Option.builder("rf").longOpt("replication-factor").argName("#").hasArg()
+                .desc("Number of copies of each document across the collection (replicas per shard); default is 1.").get());
+        options.addOption(Option.builder("d").longOpt("confdir").argName("NAME").hasArg()
+                .desc("Configuration directory to copy when creating the new collection; default is " + SolrCliTest.DEFAULT_CONFIG_SET + '.').get());
+        options.addOption(Option.builder("n").longOpt("confname").argName("NAME").hasArg().desc("Configuration name; default is the collection name.").get());
+        return options;
+    }
+
+    private BenchmarkFixtures() {
+        // no instances
+    }
+}
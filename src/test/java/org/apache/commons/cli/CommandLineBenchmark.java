@@ -0,0 +1,104 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link CommandLine} lookups on a command line where every generated option is present.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=CommandLineBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandLineBenchmark {
+
+    /** The number of generated options, all present on the command line. */
+    @Param({ "10", "100", "500" })
+    public int size;
+
+    private CommandLine commandLine;
+
+    private String lastLongOpt;
+
+    private String lastOpt;
+
+    private Option lastOption;
+
+    @Benchmark
+    public void getOptionValueFirstAndLast(final Blackhole blackhole) {
+        blackhole.consume(commandLine.getOptionValue("a"));
+        blackhole.consume(commandLine.getOptionValue(lastOpt));
+        blackhole.consume(commandLine.getOptionValue(lastLongOpt));
+    }
+
+    @Benchmark
+    public String getOptionValueByOption() {
+        return commandLine.getOptionValue(lastOption);
+    }
+
+    @Benchmark
+    public String[] getOptionValuesProperties() {
+        return commandLine.getOptionValues('D');
+    }
+
+    @Benchmark
+    public void hasOptionPresentAndMissing(final Blackhole blackhole) {
+        blackhole.consume(commandLine.hasOption(lastOpt));
+        blackhole.consume(commandLine.hasOption(lastLongOpt));
+        blackhole.consume(commandLine.hasOption("verbose"));
+        blackhole.consume(commandLine.hasOption("missing"));
+    }
+
+    @Benchmark
+    public int getIntOptionValue() throws ParseException {
+        return commandLine.getIntOptionValue(lastOption, 0);
+    }
+
+    @Benchmark
+    public Object getParsedOptionValue() throws ParseException {
+        return commandLine.getParsedOptionValue(lastOption);
+    }
+
+    @Setup
+    public void setUp() throws ParseException {
+        final Options options = BenchmarkFixtures.createOptions(size);
+        commandLine = DefaultParser.builder().get().parse(options, BenchmarkFixtures.createAllOptionArgs(size));
+        lastOpt = "g" + (size - 1);
+        lastLongOpt = BenchmarkFixtures.GENERATED_PREFIX + (size - 1);
+        lastOption = options.getOption(lastOpt);
+    }
+}
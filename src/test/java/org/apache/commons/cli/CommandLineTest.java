@@ -21,14 +21,23 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -272,6 +281,16 @@ class CommandLineTest {
         assertEquals("T", cmd.getOptions()[0].getOpt());
     }
 
+    @Test
+    void testBuilderKeepsOption() {
+        final Option option = Option.builder("T").hasArg().get();
+        final CommandLine cmd = CommandLine.builder().addOption(option).get();
+        assertSame(option, cmd.getOptions()[0]);
+        assertSame(option, cmd.iterator().next());
+        option.processValue("late");
+        assertEquals("late", cmd.getOptionValue("T"));
+    }
+
     @Test
     void testBuilderNullArgs() {
         final CommandLine.Builder builder = CommandLine.builder();
@@ -297,6 +316,64 @@ class CommandLineTest {
         assertEquals(0, cmd.getOptions().length);
     }
 
+    @Test
+    void testCacheConvertedValues() throws Exception {
+        final AtomicInteger conversions = new AtomicInteger();
+        final Converter<StringBuilder, RuntimeException> converter = s -> {
+            conversions.incrementAndGet();
+            return new StringBuilder(s);
+        };
+        final Options options = new Options();
+        options.addOption(Option.builder("o").hasArgs().type(StringBuilder.class).converter(converter).get());
+        options.addOption(Option.builder("n").hasArg().type(Integer.class).get());
+        final String[] args = {"-o", "a", "b", "-n", "x", "-o", "c"};
+        final CommandLine uncached = new DefaultParser().parse(options, args);
+        assertNotSame(uncached.getParsedOptionValue("o"), uncached.getParsedOptionValue("o"));
+        assertEquals(2, conversions.getAndSet(0));
+        final CommandLine cmd = DefaultParser.builder().setCacheConvertedValues(true).get().parse(options, args);
+        final StringBuilder first = cmd.getParsedOptionValue("o");
+        assertEquals("a", first.toString());
+        assertSame(first, cmd.getParsedOptionValue('o'));
+        assertEquals(1, conversions.get());
+        final StringBuilder[] values = cmd.getParsedOptionValues("o");
+        assertEquals(3, values.length);
+        assertSame(first, values[0]);
+        assertEquals("c", values[2].toString());
+        assertEquals(3, conversions.get());
+        final StringBuilder[] again = cmd.getParsedOptionValues("o");
+        assertNotSame(values, again);
+        assertArrayEquals(values, again);
+        assertEquals(3, conversions.get());
+        // a failed conversion is not cached
+        assertThrows(ParseException.class, () -> cmd.getParsedOptionValue("n"));
+        assertThrows(ParseException.class, () -> cmd.getParsedOptionValue("n"));
+        assertEquals(Integer.valueOf(1), cmd.getParsedOptionValue("missing", () -> 1));
+    }
+
+    @Test
+    void testCacheConvertedValuesConcurrentReads() throws Exception {
+        final Options options = new Options();
+        options.addOption(Option.builder("o").hasArgs().type(StringBuilder.class).converter(StringBuilder::new).get());
+        final CommandLine cmd = DefaultParser.builder().setCacheConvertedValues(true).get().parse(options, new String[] { "-o", "a", "b", "c" });
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<StringBuilder[]>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> cmd.<StringBuilder>getParsedOptionValues("o")));
+            }
+            final StringBuilder[] first = futures.get(0).get();
+            for (final Future<StringBuilder[]> future : futures) {
+                final StringBuilder[] values = future.get();
+                for (int i = 0; i < values.length; i++) {
+                    assertSame(first[i], values[i]);
+                }
+            }
+            assertEquals("c", first[2].toString());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     void testGetOptionProperties() throws Exception {
         final String[] args = {"-Dparam1=value1", "-Dparam2=value2", "-Dparam3", "-Dparam4=value4", "-D", "--property", "foo=bar"};
@@ -1005,6 +1082,109 @@ class CommandLineTest {
         }
     }
 
+    @Test
+    void testGetOptionsHoldOccurrenceValues() throws Exception {
+        final Options options = new Options();
+        final Option optF = Option.builder("f").hasArg().get();
+        options.addOption(optF);
+        options.addOption("v", false, "verbose");
+        final CommandLine cmd = new DefaultParser().parse(options, new String[] {"-f", "a", "-v", "-f", "b"});
+        final Option[] parsed = cmd.getOptions();
+        assertEquals(3, parsed.length);
+        assertEquals(optF, parsed[0]);
+        assertNotSame(optF, parsed[0]);
+        assertEquals(Arrays.asList("a"), parsed[0].getValuesList());
+        assertEquals(Arrays.asList("b"), parsed[2].getValuesList());
+        assertTrue(parsed[1].getValuesList().isEmpty());
+        assertTrue(optF.getValuesList().isEmpty(), "the Options must not hold parsed values");
+        // the same instances are returned on each call
+        assertSame(parsed[0], cmd.getOptions()[0]);
+        assertSame(parsed[0], cmd.iterator().next());
+        assertArrayEquals(new String[] {"a", "b"}, cmd.getOptionValues(optF));
+        assertEquals(2, cmd.getOptionCount(optF));
+    }
+
+    @Test
+    void testGetPrimitiveOptionValues() throws Exception {
+        final Options options = new Options();
+        options.addOption(Option.builder("t").longOpt("threads").hasArg().get());
+        options.addOption(Option.builder("s").longOpt("sizes").hasArgs().get());
+        options.addOption(Option.builder("r").longOpt("ratio").hasArg().get());
+        options.addOption(Option.builder("x").hasArg().get());
+        final CommandLine cmd = new DefaultParser().parse(options, new String[] {"-t", "8", "-s", "1", "2", "--ratio", "0.75", "-s", "3", "-x", "abc"});
+        assertEquals(8, cmd.getIntOptionValue("threads", 1));
+        assertEquals(8, cmd.getIntOptionValue('t', 1));
+        assertEquals(8L, cmd.getLongOptionValue(options.getOption("t"), 1L));
+        assertEquals(0.75, cmd.getDoubleOptionValue("r", 1.0));
+        assertEquals(1, cmd.getIntOptionValue("missing", 1));
+        assertEquals(2L, cmd.getLongOptionValue((Option) null, 2L));
+        assertArrayEquals(new int[] {1, 2, 3}, cmd.getIntOptionValues("sizes"));
+        assertArrayEquals(new long[] {1, 2, 3}, cmd.getLongOptionValues('s'));
+        assertArrayEquals(new double[] {1, 2, 3}, cmd.getDoubleOptionValues(options.getOption("s")));
+        assertArrayEquals(new int[] {8}, cmd.getIntOptionValues("t"));
+        assertNull(cmd.getIntOptionValues("missing"));
+        assertNull(cmd.getDoubleOptionValues((Option) null));
+        assertEquals(0.75, cmd.getDoubleOptionValues("ratio")[0]);
+        final ParseException e = assertThrows(ParseException.class, () -> cmd.getIntOptionValue("x", 0));
+        assertTrue(e.getCause() instanceof NumberFormatException);
+        assertThrows(ParseException.class, () -> cmd.getLongOptionValues("x"));
+        assertThrows(ParseException.class, () -> cmd.getIntOptionValue("r", 0));
+    }
+
+    @Test
+    void testIndexUpdatedByAddOption() {
+        final CommandLine cmd = new CommandLine();
+        assertFalse(cmd.hasOption("a"));
+        assertNull(cmd.getOptionValue("a"));
+        final Option optA = Option.builder("a").longOpt("all").hasArg().get();
+        optA.processValue("1");
+        cmd.addOption(optA);
+        assertTrue(cmd.hasOption("a"));
+        assertTrue(cmd.hasOption("--all"));
+        assertEquals("1", cmd.getOptionValue("all"));
+        final Option optA2 = Option.builder("a").longOpt("all").hasArg().get();
+        optA2.processValue("2");
+        cmd.addOption(optA2);
+        assertArrayEquals(new String[] {"1", "2"}, cmd.getOptionValues('a'));
+        assertEquals(2, cmd.getOptionCount("all"));
+        assertEquals("1", cmd.getOptionValue(optA2));
+    }
+
+    @Test
+    void testLookupManyOptions() throws Exception {
+        final Options options = new Options();
+        final List<String> args = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            options.addOption(Option.builder("o" + i).longOpt("option-" + i).hasArg().get());
+            args.add("--option-" + i);
+            args.add("v" + i);
+        }
+        args.add("-o7");
+        args.add("again");
+        final CommandLine cmd = new DefaultParser().parse(options, args.toArray(new String[0]));
+        for (int i = 0; i < 500; i++) {
+            assertTrue(cmd.hasOption("o" + i));
+            assertEquals("v" + i, cmd.getOptionValue("option-" + i));
+        }
+        assertArrayEquals(new String[] {"v7", "again"}, cmd.getOptionValues("o7"));
+        assertEquals(2, cmd.getOptionCount(options.getOption("o7")));
+        assertFalse(cmd.hasOption("o500"));
+    }
+
+    @Test
+    void testIteratorRemove() throws Exception {
+        final Options options = new Options();
+        options.addOption("a", false, "a");
+        options.addOption("b", false, "b");
+        final CommandLine cmd = new DefaultParser().parse(options, new String[] {"-a", "-b"});
+        final Iterator<Option> iterator = cmd.iterator();
+        assertEquals("a", iterator.next().getOpt());
+        iterator.remove();
+        assertFalse(cmd.hasOption("a"));
+        assertTrue(cmd.hasOption("b"));
+        assertEquals(1, cmd.getOptions().length);
+    }
+
     @Test
     void testNullOption() throws Exception {
         final Options options = new Options();
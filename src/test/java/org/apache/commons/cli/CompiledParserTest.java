@@ -0,0 +1,199 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.commons.cli.DefaultParser.NonOptionAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CompiledParserTest {
+
+    private OptionGroup optionGroup;
+
+    private Options options;
+
+    private CompiledParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        optionGroup = new OptionGroup();
+        optionGroup.addOption(new Option("f", "file", true, "file to process"));
+        optionGroup.addOption(new Option("d", "directory", true, "directory to process"));
+        options = new Options().addOptionGroup(optionGroup);
+        options.addOption("v", "verbose", false, "be verbose");
+        options.addOption(Option.builder("D").hasArgs().valueSeparator().get());
+        options.addOption(Option.builder("n").longOpt("number").hasArg().type(Integer.class).get());
+        parser = DefaultParser.builder().compile(options);
+    }
+
+    @Test
+    void testAlreadySelected() {
+        final AlreadySelectedException e = assertThrows(AlreadySelectedException.class, () -> parser.parse("-f", "a.txt", "-d", "dir"));
+        assertEquals(optionGroup, e.getOptionGroup());
+        assertEquals("d", e.getOption().getKey());
+        assertEquals("The option 'd' was specified but an option from this group has already been selected: 'f'", e.getMessage());
+        assertFalse(optionGroup.isSelected());
+    }
+
+    @Test
+    void testCompileCopiesOptions() throws ParseException {
+        options.addOption("x", "extra", false, "added after compile");
+        assertThrows(UnrecognizedOptionException.class, () -> parser.parse("-x"));
+        assertTrue(DefaultParser.builder().compile(options).parse("-x").hasOption("extra"));
+    }
+
+    @Test
+    void testConcurrentParse() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<CommandLine>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final String[] args = i % 2 == 0 ? new String[] { "-f", "file" + i, "-n", Integer.toString(i) } : new String[] { "-d", "dir" + i, "-v" };
+                futures.add(executor.submit(() -> parser.parse(args)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                final CommandLine cmd = futures.get(i).get();
+                if (i % 2 == 0) {
+                    assertEquals("file" + i, cmd.getOptionValue(optionGroup));
+                    assertEquals(Integer.valueOf(i), cmd.getParsedOptionValue("n"));
+                    assertFalse(cmd.hasOption("v"));
+                } else {
+                    assertEquals("dir" + i, cmd.getOptionValue(optionGroup));
+                    assertTrue(cmd.hasOption("v"));
+                }
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertFalse(optionGroup.isSelected());
+    }
+
+    @Test
+    void testNonOptionAction() throws ParseException {
+        assertThrows(UnrecognizedOptionException.class, () -> parser.parse("-v", "-z", "arg"));
+        final CommandLine cmd = parser.parse(null, NonOptionAction.STOP, "-v", "-z", "arg");
+        assertTrue(cmd.hasOption("v"));
+        assertEquals(2, cmd.getArgs().length);
+    }
+
+    @Test
+    void testOptionGroupSelectionIsPerParse() throws ParseException {
+        final CommandLine file = parser.parse("-f", "a.txt");
+        final CommandLine none = parser.parse("-v");
+        final CommandLine dir = parser.parse("--directory", "dir");
+        assertFalse(optionGroup.isSelected());
+        assertTrue(file.hasOption(optionGroup));
+        assertEquals("a.txt", file.getOptionValue(optionGroup));
+        assertFalse(none.hasOption(optionGroup));
+        assertNull(none.getOptionValue(optionGroup));
+        assertEquals("dir", dir.getOptionValue(optionGroup));
+        assertArrayEquals(new String[] { "dir" }, dir.getOptionValues(optionGroup));
+    }
+
+    @Test
+    void testParseAll() throws Exception {
+        final List<String[]> argumentsList = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            argumentsList.add(i % 10 == 0 ? new String[] { "-f", "a", "-d", "b" } : new String[] { "-n", Integer.toString(i), "arg" + i });
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<ParseResult> results = parser.parseAll(argumentsList, executor);
+            assertEquals(500, results.size());
+            for (int i = 0; i < results.size(); i++) {
+                final ParseResult result = results.get(i);
+                if (i % 10 == 0) {
+                    assertFalse(result.isSuccess());
+                    assertNull(result.getCommandLine());
+                    assertTrue(result.getException() instanceof AlreadySelectedException);
+                    assertThrows(AlreadySelectedException.class, result::get);
+                } else {
+                    assertTrue(result.isSuccess());
+                    assertNull(result.getException());
+                    assertEquals(Integer.toString(i), result.get().getOptionValue("n"));
+                    assertEquals("arg" + i, result.getCommandLine().getArgList().get(0));
+                }
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertFalse(optionGroup.isSelected());
+    }
+
+    @Test
+    void testParseAllStream() throws ParseException {
+        final Stream<String[]> argumentsStream = IntStream.range(0, 500).mapToObj(i -> new String[] { "--number", Integer.toString(i) });
+        final List<ParseResult> results = parser.parseAll(argumentsStream.parallel()).collect(Collectors.toList());
+        assertEquals(500, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(Integer.valueOf(i), results.get(i).get().getParsedOptionValue("n"));
+        }
+        final ParseResult unrecognized = parser.parseAll(Stream.of(new String[] { "-z" }, new String[] { "-v" })).findFirst().get();
+        assertTrue(unrecognized.getException() instanceof UnrecognizedOptionException);
+    }
+
+    @Test
+    void testProperties() throws ParseException {
+        final Properties properties = new Properties();
+        properties.setProperty("number", "42");
+        properties.setProperty("directory", "dir");
+        properties.setProperty("verbose", "no");
+        final CommandLine cmd = parser.parse(properties, "-f", "a.txt");
+        assertEquals("42", cmd.getOptionValue("n"));
+        assertFalse(cmd.hasOption("d"), "the group is already selected");
+        assertFalse(cmd.hasOption("v"));
+        assertTrue(options.getOption("n").isValuesEmpty(), "the Options must not be modified");
+        assertEquals("dir", parser.parse(properties).getOptionValue(optionGroup));
+        assertFalse(optionGroup.isSelected());
+    }
+
+    @Test
+    void testSameResultAsDefaultParser() throws ParseException {
+        final String[] args = { "-v", "--file=a.txt", "-Dk1=v1", "-Dk2=v2", "--num", "7", "arg" };
+        final CommandLine expected = new DefaultParser().parse(options, args);
+        final CommandLine actual = parser.parse(args);
+        assertEquals(expected.getArgList(), actual.getArgList());
+        assertEquals(expected.getOptions().length, actual.getOptions().length);
+        for (int i = 0; i < expected.getOptions().length; i++) {
+            assertEquals(expected.getOptions()[i], actual.getOptions()[i]);
+            assertEquals(expected.getOptions()[i].getValuesList(), actual.getOptions()[i].getValuesList());
+        }
+        assertEquals(expected.getOptionProperties("D"), actual.getOptionProperties("D"));
+        assertEquals(expected.getOptionValue(optionGroup), actual.getOptionValue(optionGroup));
+    }
+}
@@ -24,10 +24,20 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.net.URL;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -132,6 +142,39 @@ public class ConverterTests {
         assertEquals(formatted.length(), e.getErrorOffset());
     }
 
+    @Test
+    void testDateThreads() throws Exception {
+        final Date expected = new Date(1023400137000L);
+        final String formatted = new SimpleDateFormat("EEE MMM dd HH:mm:ss zzz yyyy").format(expected);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Date>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> Converter.DATE.apply(formatted)));
+            }
+            for (final Future<Date> future : futures) {
+                assertEquals(expected, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        // parsing another zone leaves later parses unchanged
+        Converter.DATE.apply("Thu Jun 06 17:48:57 UTC 2002");
+        assertEquals(expected, Converter.DATE.apply(formatted));
+    }
+
+    @Test
+    void testJavaTime() throws Exception {
+        assertEquals(Duration.ofSeconds(90), Converter.DURATION.apply("PT1M30S"));
+        assertEquals(Instant.ofEpochSecond(1023400137L), Converter.INSTANT.apply("2002-06-06T21:48:57Z"));
+        assertEquals(LocalDate.of(2002, 6, 6), Converter.LOCAL_DATE.apply("2002-06-06"));
+        assertEquals(LocalDateTime.of(2002, 6, 6, 17, 48, 57), Converter.LOCAL_DATE_TIME.apply("2002-06-06T17:48:57"));
+        assertEquals(ZonedDateTime.of(2002, 6, 6, 17, 48, 57, 0, ZoneId.of("America/New_York")),
+                Converter.ZONED_DATE_TIME.apply("2002-06-06T17:48:57-04:00[America/New_York]"));
+        assertThrows(DateTimeParseException.class, () -> Converter.INSTANT.apply("2002-06-06"));
+        assertThrows(DateTimeParseException.class, () -> Converter.LOCAL_DATE.apply("06/06/2002"));
+    }
+
     @Test
     void testFile() throws Exception {
         final URL url = this.getClass().getClassLoader().getResource("./org/apache/commons/cli/existing-readable.file");
@@ -0,0 +1,135 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link DefaultParser#parse(Options, String[])} over small, medium and large {@link Options}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=DefaultParserBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefaultParserBenchmark {
+
+    /** The number of generated options on top of the options used by the canned workloads. */
+    @Param({ "10", "100", "500" })
+    public int size;
+
+    private Options options;
+
+    private Options solrOptions;
+
+    private String[] lastOptionArgs;
+
+    private String[] allOptionArgs;
+
+    private DefaultParser parser;
+
+    private CompiledParser compiledParser;
+
+    private CompiledParser compiledSolrParser;
+
+    private CompiledParser listenedSolrParser;
+
+    private List<String[]> batch;
+
+    @Benchmark
+    public CommandLine parseAllOptions() throws ParseException {
+        return parser.parse(options, allOptionArgs);
+    }
+
+    @Benchmark
+    public CommandLine parseCompiledAllOptions() throws ParseException {
+        return compiledParser.parse(allOptionArgs);
+    }
+
+    @Benchmark
+    public List<ParseResult> parseCompiledBatch() {
+        return compiledSolrParser.parseAll(batch, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public CommandLine parseCompiledSolrTool() throws ParseException {
+        return compiledSolrParser.parse(BenchmarkFixtures.SOLR);
+    }
+
+    @Benchmark
+    public CommandLine parseCompiledSolrToolWithStatistics() throws ParseException {
+        return listenedSolrParser.parse(BenchmarkFixtures.SOLR);
+    }
+
+    @Benchmark
+    public CommandLine parseLastOption() throws ParseException {
+        return parser.parse(options, lastOptionArgs);
+    }
+
+    @Benchmark
+    public CommandLine parsePartialLongOptions() throws ParseException {
+        return parser.parse(options, BenchmarkFixtures.PARTIAL_LONG);
+    }
+
+    @Benchmark
+    public CommandLine parseProperties() throws ParseException {
+        return parser.parse(options, BenchmarkFixtures.PROPERTIES);
+    }
+
+    @Benchmark
+    public CommandLine parseShortBundle() throws ParseException {
+        return parser.parse(options, BenchmarkFixtures.SHORT_BUNDLE);
+    }
+
+    @Benchmark
+    public CommandLine parseSolrTool() throws ParseException {
+        return parser.parse(solrOptions, BenchmarkFixtures.SOLR);
+    }
+
+    @Setup
+    public void setUp() {
+        options = BenchmarkFixtures.createOptions(size);
+        solrOptions = BenchmarkFixtures.createSolrOptions();
+        lastOptionArgs = BenchmarkFixtures.createLastOptionArgs(size);
+        allOptionArgs = BenchmarkFixtures.createAllOptionArgs(size);
+        parser = DefaultParser.builder().get();
+        compiledParser = DefaultParser.builder().compile(options);
+        compiledSolrParser = DefaultParser.builder().compile(solrOptions);
+        listenedSolrParser = DefaultParser.builder().setParseListener(new ParseStatistics()).compile(solrOptions);
+        batch = Collections.nCopies(size, BenchmarkFixtures.SOLR);
+    }
+}
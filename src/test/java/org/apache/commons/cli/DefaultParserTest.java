@@ -17,16 +17,29 @@
 
 package org.apache.commons.cli;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.Spliterators;
 import java.util.stream.Stream;
 
 import org.apache.commons.cli.DefaultParser.Builder;
+import org.apache.commons.cli.DefaultParser.NonOptionAction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -233,6 +246,186 @@ class DefaultParserTest extends AbstractParserTestCase {
     void testLongOptionWithEqualsQuoteHandling() throws Exception {
     }
 
+    @Test
+    void testLongPrefix() throws ParseException {
+        final Options options = new Options();
+        options.addOption(Option.builder("x").longOpt("Xm").hasArg().get());
+        options.addOption(Option.builder("m").longOpt("Xmx").hasArg().get());
+        final StringBuilder blob = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            blob.append((char) ('a' + i % 26));
+        }
+        final CommandLine cmd = DefaultParser.builder().setAllowPartialMatching(false).get().parse(options, new String[] { "-Xmx512m", "-Xm" + blob });
+        assertEquals("512m", cmd.getOptionValue("Xmx"));
+        assertEquals(blob.toString(), cmd.getOptionValue("Xm"));
+        // the value is at least 2 characters long
+        assertEquals("x1", parser.parse(options, new String[] { "-Xmx1" }).getOptionValue("Xm"));
+    }
+
+    @Test
+    void testMixedTokens() throws ParseException {
+        final Options options = new Options();
+        options.addOption(Option.builder("a").get());
+        options.addOption(Option.builder("b").hasArg().get());
+        options.addOption(Option.builder("D").hasArgs().valueSeparator().get());
+        options.addOption(Option.builder("f").longOpt("file").hasArg().get());
+        options.addOption(Option.builder().longOpt("Xmx").hasArg().get());
+        options.addOption(Option.builder().longOpt("verbose").get());
+        options.addOption(Option.builder().longOpt("version").get());
+        final String[] args = { "-ab1", "-b=\"2\"", "-Dk1=v1", "-Dflag", "--file=\"x\"", "-fil", "y", "-Xmx512m", "--verb", "-a", "arg" };
+        final CommandLine cmd = parser.parse(options, args);
+        assertArrayEquals(new String[] { "1", "\"2\"" }, cmd.getOptionValues("b"));
+        assertArrayEquals(new String[] { "k1", "v1", "flag" }, cmd.getOptionValues("D"));
+        assertArrayEquals(new String[] { "\"x\"", "y" }, cmd.getOptionValues("file"));
+        assertEquals("512m", cmd.getOptionValue("Xmx"));
+        assertTrue(cmd.hasOption("verbose"));
+        assertEquals(2, cmd.getOptionCount("a"));
+        assertEquals("[arg]", cmd.getArgList().toString());
+        final AmbiguousOptionException e = assertThrows(AmbiguousOptionException.class, () -> parser.parse(options, new String[] { "-ver=1" }));
+        assertEquals("[verbose, version]", e.getMatchingOptions().toString());
+    }
+
+    @Test
+    void testExpandArgumentFiles() throws Exception {
+        final Options options = new Options();
+        options.addOption("v", "verbose", false, "verbose");
+        options.addOption(Option.builder("o").longOpt("output").hasArg().get());
+        final Path file = Files.createTempFile("args", ".txt");
+        try {
+            Files.write(file, Arrays.asList("--output \"my file\"", "", "-v 'in 1' @nested"));
+            final DefaultParser expanding = DefaultParser.builder().setExpandArgumentFiles(true).get();
+            final CommandLine cmd = expanding.parse(options, new String[] { "first", "@" + file, "@@last", "@" });
+            assertEquals("my file", cmd.getOptionValue("output"));
+            assertTrue(cmd.hasOption("verbose"));
+            assertEquals(Arrays.asList("first", "in 1", "@nested", "@last", "@"), cmd.getArgList());
+            assertEquals(Arrays.asList("@" + file), new DefaultParser().parse(options, new String[] { "@" + file }).getArgList());
+            assertEquals("my file", DefaultParser.builder().setExpandArgumentFiles(true).compile(options).parse("@" + file).getOptionValue("o"));
+        } finally {
+            Files.delete(file);
+        }
+        final ParseException e = assertThrows(ParseException.class,
+                () -> DefaultParser.builder().setExpandArgumentFiles(true).get().parse(options, new String[] { "@" + file }));
+        assertTrue(e.getCause() instanceof IOException);
+    }
+
+    @Test
+    void testExpandArgumentFilesAfterStop() throws Exception {
+        final Options options = new Options();
+        options.addOption("v", "verbose", false, "verbose");
+        final DefaultParser expanding = DefaultParser.builder().setExpandArgumentFiles(true).get();
+        final Path missing = Paths.get("target", "missing-args.txt");
+        assertEquals(Arrays.asList("@" + missing, "@@last"), expanding.parse(options, new String[] { "-v", "--", "@" + missing, "@@last" }).getArgList());
+        final CommandLine stopped = expanding.parse(options, new String[] { "-v", "arg", "@" + missing, "@@last" }, true);
+        assertTrue(stopped.hasOption("v"));
+        assertEquals(Arrays.asList("arg", "@" + missing, "@@last"), stopped.getArgList());
+    }
+
+    @Test
+    void testNegativeNumberValues() throws ParseException {
+        final Options options = new Options();
+        options.addOption(Option.builder("n").hasArgs().get());
+        options.addOption(Option.builder("a").get());
+        options.addOption(Option.builder("b").hasArg().get());
+        final CommandLine cmd = parser.parse(options, new String[] { "-n", "-1", "-2.5e3", "-0x1p3", "-NaN", "-5d", "-a", "-b", "-7", "-ab9" });
+        assertArrayEquals(new String[] { "-1", "-2.5e3", "-0x1p3", "-NaN", "-5d" }, cmd.getOptionValues("n"));
+        assertTrue(cmd.hasOption("a"));
+        assertArrayEquals(new String[] { "-7", "9" }, cmd.getOptionValues("b"));
+    }
+
+    @Test
+    void testParseIterator() throws ParseException {
+        final Options options = new Options();
+        options.addOption("v", "verbose", false, "verbose");
+        options.addOption(Option.builder("o").hasArg().get());
+        final List<String> arguments = new ArrayList<>();
+        final CommandLine cmd = new DefaultParser().parse(options, null, NonOptionAction.SKIP, Arrays.asList("a", "-v", "-o", "x", "b", "--", "-v").iterator(),
+                arguments::add);
+        assertTrue(cmd.hasOption("verbose"));
+        assertEquals("x", cmd.getOptionValue("o"));
+        assertEquals(Arrays.asList("a", "b", "-v"), arguments);
+        assertTrue(cmd.getArgList().isEmpty());
+        final Iterator<String> iterator = Spliterators.iterator(Stream.of("-v", "c").spliterator());
+        final CommandLine kept = new DefaultParser().parse(options, null, NonOptionAction.SKIP, iterator, null);
+        assertEquals(Arrays.asList("c"), kept.getArgList());
+        assertThrows(MissingArgumentException.class,
+                () -> new DefaultParser().parse(options, null, NonOptionAction.THROW, Arrays.asList("-o").iterator(), arguments::add));
+        assertThrows(NullPointerException.class, () -> new DefaultParser().parse(options, null, NonOptionAction.SKIP, (Iterator<String>) null, null));
+    }
+
+    @Test
+    void testParseReader() throws Exception {
+        final Options options = new Options();
+        options.addOption(Option.builder("o").longOpt("output").hasArg().get());
+        final List<String> arguments = new ArrayList<>();
+        final CommandLine cmd = new DefaultParser().parse(options, null, NonOptionAction.SKIP, new StringReader("--output \"my file\"\nin1 'in 2'\n"),
+                arguments::add);
+        assertEquals("my file", cmd.getOptionValue("output"));
+        assertEquals(Arrays.asList("in1", "in 2"), arguments);
+        final Reader broken = new Reader() {
+            @Override
+            public void close() {
+                // empty
+            }
+
+            @Override
+            public int read(final char[] cbuf, final int off, final int len) throws IOException {
+                throw new IOException("broken pipe");
+            }
+        };
+        assertThrows(IOException.class, () -> new DefaultParser().parse(options, null, NonOptionAction.SKIP, broken, null));
+    }
+
+    @Test
+    void testManyRequiredOptions() throws ParseException {
+        final Options options = new Options();
+        final String[] args = new String[100];
+        for (int i = 0; i < 100; i++) {
+            options.addRequiredOption("o" + i, null, false, "option " + i);
+            args[i] = "-o" + i;
+        }
+        final OptionGroup group = new OptionGroup();
+        group.addOption(new Option("a", "a")).addOption(new Option("b", "b"));
+        group.setRequired(true);
+        options.addOptionGroup(group);
+        final MissingOptionException e = assertThrows(MissingOptionException.class, () -> new DefaultParser().parse(options, new String[] { "-o70", "-a" }));
+        assertEquals(99, e.getMissingOptions().size());
+        assertEquals("o0", e.getMissingOptions().get(0));
+        assertFalse(e.getMissingOptions().contains("o70"));
+        final String[] all = Arrays.copyOf(args, 101);
+        all[100] = "-b";
+        assertEquals(100, new DefaultParser().parse(options, all).getOptions().length - 1);
+        final MissingOptionException missingGroup = assertThrows(MissingOptionException.class, () -> new DefaultParser().parse(options, args));
+        assertEquals(Arrays.asList(group), missingGroup.getMissingOptions());
+        all[99] = "-a";
+        assertThrows(AlreadySelectedException.class, () -> new DefaultParser().parse(options, all));
+    }
+
+    @Test
+    void testExpectedOptionsAreMutable() throws ParseException {
+        final Options options = new Options();
+        options.addRequiredOption("a", null, false, "a");
+        options.addRequiredOption("b", null, false, "b");
+        final List<Object> seen = new ArrayList<>();
+        final DefaultParser subclass = new DefaultParser() {
+            @Override
+            protected void handleUnknownToken(final String token) throws ParseException {
+                seen.addAll(expectedOpts);
+                expectedOpts.add(token);
+                expectedOpts.remove("b");
+                super.handleUnknownToken(token);
+            }
+        };
+        final MissingOptionException e = assertThrows(MissingOptionException.class, () -> subclass.parse(options, new String[] { "-a", "arg" }));
+        assertEquals(Arrays.asList("b"), seen);
+        assertEquals(Arrays.asList("arg"), e.getMissingOptions());
+        assertEquals("Missing required option: arg", e.getMessage());
+        // the options found after an edit are still removed
+        seen.clear();
+        final MissingOptionException later = assertThrows(MissingOptionException.class, () -> subclass.parse(options, new String[] { "arg", "-a" }));
+        assertEquals(Arrays.asList("a", "b"), seen);
+        assertEquals(Arrays.asList("arg"), later.getMissingOptions());
+    }
+
     @ParameterizedTest(name = "{index}. {0}")
     @ArgumentsSource(ExternalArgumentsProvider.class)
     void testParameterized(final String testName, final CommandLineParser parser, final String[] args, final String expected,
@@ -17,6 +17,18 @@
 
 package org.apache.commons.cli;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -111,12 +123,62 @@ class GnuParserTest extends AbstractParserTestCase {
     void testNegativeOption() throws Exception {
     }
 
+    @Test
+    void testParseSameAsOverriddenProcessArgs() throws Exception {
+        final String[] args = { "--bfile=f", "-a", "arg", "-b", "g", "--", "-c" };
+        final CommandLine expected = new GnuParser() {
+            @Override
+            public void processArgs(final Option opt, final ListIterator<String> iter) throws ParseException {
+                super.processArgs(opt, iter);
+            }
+        }.parse(options, args);
+        final CommandLine actual = parser.parse(options, args);
+        assertEquals(expected.getArgList(), actual.getArgList());
+        assertEquals(expected.getOptions().length, actual.getOptions().length);
+        for (int i = 0; i < expected.getOptions().length; i++) {
+            assertEquals(expected.getOptions()[i], actual.getOptions()[i]);
+            assertEquals(expected.getOptions()[i].getValuesList(), actual.getOptions()[i].getValuesList());
+        }
+    }
+
     @Override
     @Test
     @Disabled("not supported by the GnuParser")
     void testPartialLongOptionSingleDash() throws Exception {
     }
 
+    @Test
+    void testReadOnlyOptionsConcurrentParse() throws Exception {
+        final OptionGroup group = new OptionGroup();
+        group.addOption(new Option("f", "file", true, "file to process"));
+        group.addOption(new Option("d", "directory", true, "directory to process"));
+        final Options shared = options.addOptionGroup(group).freeze();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<CommandLine>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final String[] args = i % 2 == 0 ? new String[] { "-f", "file" + i, "-b", "b" + i } : new String[] { "--directory=dir" + i, "-a" };
+                futures.add(executor.submit(() -> new GnuParser().parse(shared, args)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                final CommandLine cmd = futures.get(i).get();
+                if (i % 2 == 0) {
+                    assertEquals("file" + i, cmd.getOptionValue(group));
+                    assertEquals("b" + i, cmd.getOptionValue("b"));
+                    assertFalse(cmd.hasOption("a"));
+                } else {
+                    assertEquals("dir" + i, cmd.getOptionValue(group));
+                    assertTrue(cmd.hasOption("a"));
+                }
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertFalse(group.isSelected());
+        assertTrue(shared.getOption("f").isValuesEmpty());
+    }
+
     @Override
     @Test
     @Disabled("not supported by the GnuParser")
@@ -0,0 +1,127 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.cli.help.TextHelpAppendable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the legacy {@link HelpFormatter} and the {@link org.apache.commons.cli.help.HelpFormatter}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=HelpFormatterBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HelpFormatterBenchmark {
+
+    private static final String CMD_LINE_SYNTAX = "benchmark";
+
+    private static final String HEADER = "Benchmarks the help rendering of the options below.";
+
+    private static final String FOOTER = "Please report issues at https://issues.apache.org/jira/browse/CLI";
+
+    /** The number of generated options on top of the options used by the canned workloads. */
+    @Param({ "10", "100", "500" })
+    public int size;
+
+    private Options options;
+
+    private Options solrOptions;
+
+    private Options frozenOptions;
+
+    private HelpFormatter legacyFormatter;
+
+    private StringBuilder cachedHelp;
+
+    private org.apache.commons.cli.help.HelpFormatter cachingFormatter;
+
+    private String legacyHelp(final Options options) {
+        final StringWriter out = new StringWriter();
+        final PrintWriter pw = new PrintWriter(out);
+        legacyFormatter.printHelp(pw, legacyFormatter.getWidth(), CMD_LINE_SYNTAX, HEADER, options, legacyFormatter.getLeftPadding(),
+                legacyFormatter.getDescPadding(), FOOTER, true);
+        pw.flush();
+        return out.toString();
+    }
+
+    private String help(final Options options) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        org.apache.commons.cli.help.HelpFormatter.builder().setHelpAppendable(new TextHelpAppendable(sb)).get().printHelp(CMD_LINE_SYNTAX, HEADER, options,
+                FOOTER, true);
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String helpFormatter() throws IOException {
+        return help(options);
+    }
+
+    @Benchmark
+    public String helpFormatterSolrTool() throws IOException {
+        return help(solrOptions);
+    }
+
+    @Benchmark
+    public String helpFormatterCached() throws IOException {
+        cachedHelp.setLength(0);
+        cachingFormatter.printHelp(CMD_LINE_SYNTAX, HEADER, frozenOptions, FOOTER, true);
+        return cachedHelp.toString();
+    }
+
+    @Benchmark
+    public String legacyHelpFormatter() {
+        return legacyHelp(options);
+    }
+
+    @Benchmark
+    public String legacyHelpFormatterSolrTool() {
+        return legacyHelp(solrOptions);
+    }
+
+    @Setup
+    public void setUp() {
+        options = BenchmarkFixtures.createOptions(size);
+        frozenOptions = options.freeze();
+        solrOptions = BenchmarkFixtures.createSolrOptions();
+        legacyFormatter = HelpFormatter.builder().setShowDeprecated(false).get();
+        cachedHelp = new StringBuilder();
+        cachingFormatter = org.apache.commons.cli.help.HelpFormatter.builder().setHelpAppendable(new TextHelpAppendable(cachedHelp)).setCacheHelp(true)
+                .get();
+    }
+}
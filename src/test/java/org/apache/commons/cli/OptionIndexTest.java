@@ -0,0 +1,125 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class OptionIndexTest {
+
+    @Test
+    void testAsciiShortOptions() {
+        final Options options = new Options();
+        options.addOption("a", false, "a");
+        options.addOption("ab", false, "ab");
+        options.addOption("é", false, "e acute");
+        final OptionIndex index = options.getIndex();
+        assertSame(options.getOption("a"), index.getAsciiShortOption('a'));
+        assertNull(index.getAsciiShortOption('b'));
+        assertSame(options.getOption("é"), options.getShortOption("-é", 1, 2));
+        assertSame(options.getOption("ab"), options.getShortOption("-ab", 1, 3));
+    }
+
+    @Test
+    void testBitset() {
+        final long[] bitset = OptionIndex.newBitset(130);
+        assertEquals(3, bitset.length);
+        OptionIndex.setBit(bitset, 0);
+        OptionIndex.setBit(bitset, 129);
+        assertTrue(OptionIndex.isSet(bitset, 0));
+        assertTrue(OptionIndex.isSet(bitset, 129));
+        assertFalse(OptionIndex.isSet(bitset, 1));
+        assertFalse(OptionIndex.isSet(bitset, 65));
+        assertEquals(0, OptionIndex.newBitset(0).length);
+        assertFalse(OptionIndex.isEmpty(bitset));
+        OptionIndex.clearBit(bitset, 0);
+        OptionIndex.clearBit(bitset, 129);
+        assertFalse(OptionIndex.isSet(bitset, 129));
+        assertTrue(OptionIndex.isEmpty(bitset));
+    }
+
+    @Test
+    void testGetMissing() {
+        final OptionGroup group = new OptionGroup();
+        group.addOption(new Option("f", "file", true, "file"));
+        group.setRequired(true);
+        final Options options = new Options();
+        options.addRequiredOption("v", "verbose", false, "verbose");
+        options.addOptionGroup(group);
+        options.addRequiredOption("q", "quiet", false, "quiet");
+        final OptionIndex index = options.getIndex();
+        final long[] missingOptions = index.getRequiredOptions().clone();
+        final long[] missingGroups = index.getRequiredGroups().clone();
+        assertEquals(options.getRequiredOptions(), index.getMissing(missingOptions, missingGroups));
+        OptionIndex.clearBit(missingOptions, index.getOrdinal("v"));
+        assertEquals(Arrays.asList(group, "q"), index.getMissing(missingOptions, missingGroups));
+        OptionIndex.clearBit(missingGroups, index.getGroupOrdinal(index.getOrdinal("f")));
+        OptionIndex.clearBit(missingOptions, index.getOrdinal("q"));
+        assertTrue(index.getMissing(missingOptions, missingGroups).isEmpty());
+    }
+
+    @Test
+    void testOrdinals() {
+        final OptionGroup group = new OptionGroup();
+        group.addOption(new Option("f", "file", true, "file"));
+        group.addOption(new Option("d", "dir", true, "dir"));
+        group.setRequired(true);
+        final OptionGroup empty = new OptionGroup();
+        empty.setRequired(true);
+        final Options options = new Options();
+        options.addRequiredOption("v", "verbose", false, "verbose");
+        options.addOptionGroup(group);
+        options.addOption("q", false, "quiet");
+        options.addOptionGroup(empty);
+        final OptionIndex index = options.freeze().getIndex();
+        assertEquals(4, index.getOptionCount());
+        assertEquals(2, index.getGroupCount());
+        assertEquals(-1, index.getOrdinal("x"));
+        final int v = index.getOrdinal("v");
+        final int f = index.getOrdinal("f");
+        final int q = index.getOrdinal("q");
+        assertEquals("f", index.getOption(f).getKey());
+        assertEquals(-1, index.getGroupOrdinal(v));
+        assertEquals(index.getGroupOrdinal(f), index.getGroupOrdinal(index.getOrdinal("d")));
+        assertSame(group, index.getGroup(index.getGroupOrdinal(f)));
+        assertTrue(OptionIndex.isSet(index.getRequiredOptions(), v));
+        assertFalse(OptionIndex.isSet(index.getRequiredOptions(), f));
+        assertFalse(OptionIndex.isSet(index.getRequiredOptions(), q));
+        assertTrue(OptionIndex.isSet(index.getRequiredGroups(), 0));
+        assertTrue(OptionIndex.isSet(index.getRequiredGroups(), 1));
+        assertSame(empty, index.getGroup(1));
+    }
+
+    @Test
+    void testResetOnAdd() {
+        final Options options = new Options();
+        options.addOption("a", "alpha", false, "a");
+        final OptionIndex index = options.getIndex();
+        assertSame(index, options.getIndex());
+        options.addOption("b", "beta", false, "b");
+        assertEquals(2, options.getIndex().getOptionCount());
+        assertTrue(options.getIndex().getLongNames().contains("beta", 0, 4));
+    }
+}
@@ -30,6 +30,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -313,6 +314,17 @@ class OptionTest {
         assertTrue(exception.getMessage().contains("value"));
     }
 
+    @Test
+    void testOfferValue() {
+        assertFalse(new Option("f", null).offerValue("x"));
+        final Option option = Option.builder("D").numberOfArgs(2).valueSeparator(',').get();
+        assertFalse(option.offerValue(null));
+        assertTrue(option.offerValue("a,b,c"));
+        assertEquals(Arrays.asList("a", "b,c"), option.getValuesList());
+        assertFalse(option.offerValue("d"));
+        assertEquals(Arrays.asList("a", "b,c"), option.getValuesList());
+    }
+
     @Test
     void testSerialization() throws IOException, ClassNotFoundException {
         final Option option = Option.builder("o").type(TypeHandlerTest.Instantiable.class).get();
@@ -340,6 +352,25 @@ class OptionTest {
         assertEquals(DefaultOption.class, clone.getClass());
     }
 
+    @Test
+    void testToBuilder() {
+        final Option option = Option.builder("f").longOpt("file").hasArgs().argName("path").valueSeparator(',').required().since("1.12.0")
+                .type(Integer.class).desc("the files").get();
+        option.processValue("1");
+        final Option copy = option.toBuilder().get();
+        assertEquals(option, copy);
+        assertEquals(option.getArgs(), copy.getArgs());
+        assertEquals(option.getArgName(), copy.getArgName());
+        assertEquals(option.getValueSeparator(), copy.getValueSeparator());
+        assertEquals(option.getType(), copy.getType());
+        assertEquals(option.getDescription(), copy.getDescription());
+        assertEquals(option.getSince(), copy.getSince());
+        assertTrue(copy.isRequired());
+        assertTrue(copy.isValuesEmpty(), "the values are not copied");
+        assertEquals("g", option.toBuilder().option("g").longOpt(null).get().getKey());
+        assertThrows(IllegalArgumentException.class, () -> option.toBuilder().option("g*"));
+    }
+
     @Test
     void testTypeClass() {
         final Option option = new Option("f", null);
@@ -0,0 +1,103 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class OptionTrieTest {
+
+    private static OptionTrie trie(final String... names) {
+        return new OptionTrie(Arrays.asList(names));
+    }
+
+    @Test
+    void testAddTwice() {
+        final OptionTrie trie = trie("verbose", "version", "verbose");
+        assertEquals(2, trie.count("ver", 0, 3));
+        assertEquals(Arrays.asList("verbose", "version"), trie.matches("ver", 0, 3));
+    }
+
+    @Test
+    void testExact() {
+        final OptionTrie trie = trie("ver", "verbose", "version");
+        assertTrue(trie.contains("ver", 0, 3));
+        assertFalse(trie.contains("verb", 0, 4));
+        assertEquals("ver", trie.get("--ver", 2, 5));
+        assertNull(trie.get("--verb", 2, 6));
+        assertEquals(3, trie.count("ver", 0, 3));
+    }
+
+    @Test
+    void testInsertionOrder() {
+        final OptionTrie trie = trie("zeta", "zebra", "alpha", "zero");
+        assertEquals(Arrays.asList("zeta", "zebra", "zero"), trie.matches("--ze", 2, 4));
+        assertEquals(Arrays.asList("zeta", "zebra", "alpha", "zero"), trie.matches("", 0, 0));
+    }
+
+    @Test
+    void testLongestPrefix() {
+        final OptionTrie trie = trie("X", "Xm", "Xmx", "Xmxs");
+        assertEquals("Xmx", trie.longestPrefix("-Xmx512m", 1, 3, 6));
+        assertEquals("Xmxs", trie.longestPrefix("-Xmxs12m", 1, 3, 6));
+        assertEquals("Xm", trie.longestPrefix("-Xmx5", 1, 3, 3));
+        assertEquals("X", trie.longestPrefix("X", 0, 0, 1));
+        assertNull(trie.longestPrefix("-Xmx512m", 1, 5, 6));
+        assertNull(trie.longestPrefix("-Ymx512m", 1, 3, 6));
+    }
+
+    @Test
+    void testManyNames() {
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            names.add("option-" + i);
+        }
+        final OptionTrie trie = new OptionTrie(names);
+        assertEquals(1000, trie.count("option-", 0, 7));
+        assertEquals(111, trie.count("option-1", 0, 8));
+        assertEquals(names.stream().filter(s -> s.startsWith("option-42")).collect(Collectors.toList()), trie.matches("option-42", 0, 9));
+        assertEquals("option-999", trie.unique("option-999", 0, 10));
+    }
+
+    @Test
+    void testNoMatch() {
+        final OptionTrie trie = trie("verbose");
+        assertFalse(trie.contains("x", 0, 1));
+        assertEquals(0, trie.count("verbosely", 0, 9));
+        assertEquals(Collections.emptyList(), trie.matches("x", 0, 1));
+        assertNull(trie.unique("x", 0, 1));
+    }
+
+    @Test
+    void testUnique() {
+        final OptionTrie trie = trie("verbose", "version", "help");
+        assertEquals("help", trie.unique("-h", 1, 2));
+        assertEquals("verbose", trie.unique("verb", 0, 4));
+        assertNull(trie.unique("ver", 0, 3));
+    }
+}
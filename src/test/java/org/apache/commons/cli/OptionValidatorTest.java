@@ -171,6 +171,26 @@ class OptionValidatorTest {
         }
     }
 
+    @Test
+    void testValidateEveryChar() {
+        for (char c = 0; c < Character.MAX_VALUE; c++) {
+            final String first = String.valueOf(c);
+            final boolean validFirst = Character.isJavaIdentifierPart(c) || additionalOptonChars.indexOf(c) >= 0;
+            assertEquals(validFirst, isValid(first), first);
+            final String rest = "a" + c;
+            final boolean validRest = Character.isJavaIdentifierPart(c) || additionalLongChars.indexOf(c) >= 0;
+            assertEquals(validRest, isValid(rest), rest);
+        }
+    }
+
+    private static boolean isValid(final String option) {
+        try {
+            return option.equals(OptionValidator.validate(option));
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     @ParameterizedTest(name = "{2}")
     @MethodSource("optionParameters")
     void testValidate(final String str, final boolean expected, final String name) {
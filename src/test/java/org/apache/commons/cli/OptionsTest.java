@@ -21,6 +21,8 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -168,6 +170,33 @@ class OptionsTest {
         assertToStrings(options.getOption("a"));
     }
 
+    @Test
+    void testFreeze() throws ParseException {
+        final OptionGroup group = new OptionGroup();
+        group.addOption(Option.builder("f").longOpt("file").hasArg().get());
+        group.addOption(Option.builder("d").longOpt("dir").hasArg().get());
+        final Options options = new Options().addOptionGroup(group);
+        options.addRequiredOption("v", "verbose", false, "be verbose");
+        final Options frozen = options.freeze();
+        assertFalse(options.isFrozen());
+        assertTrue(frozen.isFrozen());
+        assertSame(frozen, frozen.freeze());
+        assertThrows(UnsupportedOperationException.class, () -> frozen.addOption("x", false, "x"));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.addOptionGroup(new OptionGroup()));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.addOptions(new Options()));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.addRequiredOption("x", "extra", false, "x"));
+        options.addOption("x", "extra", false, "added after freeze");
+        assertFalse(frozen.hasOption("x"));
+        assertEquals(3, frozen.getOptions().size());
+        assertEquals(options.getOption("verbose"), frozen.getOption("verbose"));
+        assertEquals(Arrays.asList("file"), frozen.getMatchingOptions("fi"));
+        assertEquals(options.getRequiredOptions(), frozen.getRequiredOptions());
+        final CommandLine cmd = new DefaultParser().parse(frozen, new String[] { "-v", "--fi", "a.txt" });
+        assertEquals("a.txt", cmd.getOptionValue(group));
+        assertNull(group.getSelected(), "parsing frozen Options leaves the groups untouched");
+        assertThrows(MissingOptionException.class, () -> new DefaultParser().parse(frozen, new String[] { "-f", "a.txt" }));
+    }
+
     @Test
     void testGetMatchingOpts() {
         final Options options = new Options();
@@ -182,6 +211,26 @@ class OptionsTest {
         assertToStrings(options.getOption("verbose"));
     }
 
+    @Test
+    void testGetMatchingOption() {
+        final Options options = new Options();
+        options.addOption(Option.builder("x").longOpt("version").get());
+        options.addOption(Option.builder("b").longOpt("verbose").get());
+        options.addOption(Option.builder("v").longOpt("ver").get());
+        assertEquals("ver", options.getMatchingOption("--ver"));
+        assertEquals(1, options.getMatchingOptionCount("--ver"));
+        assertEquals("version", options.getMatchingOption("-versi"));
+        assertEquals(1, options.getMatchingOptionCount("-versi"));
+        assertNull(options.getMatchingOption("verb-"));
+        assertEquals(0, options.getMatchingOptionCount("verb-"));
+        assertNull(options.getMatchingOption("--"));
+        assertEquals(0, options.getMatchingOptionCount(null));
+        options.addOption(Option.builder("d").longOpt("verbatim").get());
+        assertNull(options.getMatchingOption("verb"));
+        assertEquals(2, options.getMatchingOptionCount("verb"));
+        assertEquals(Arrays.asList("verbose", "verbatim"), options.getMatchingOptions("verb"));
+    }
+
     @Test
     void testGetMatchingOptsEmptyName() throws Exception {
         final Options options = new Options();
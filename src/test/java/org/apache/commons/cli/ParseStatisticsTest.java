@@ -0,0 +1,130 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParseStatisticsTest {
+
+    private Options options;
+
+    private ParseStatistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        options = new Options();
+        options.addOption("v", "verbose", false, "be verbose");
+        options.addOption(Option.builder().longOpt("version").get());
+        options.addOption(Option.builder("n").longOpt("number").hasArg().type(Integer.class).get());
+        statistics = new ParseStatistics();
+    }
+
+    @Test
+    void testCompiledParser() throws ParseException {
+        final CompiledParser parser = DefaultParser.builder().setParseListener(statistics).compile(options);
+        parser.parse("-v", "--numb", "1");
+        parser.parse("--verb");
+        assertEquals(2, statistics.getParseCount());
+        assertEquals(4, statistics.getTokenCount());
+        assertEquals(3, statistics.getOptionMatchCount());
+        assertEquals(2, statistics.getPartialMatchCount());
+    }
+
+    @Test
+    void testConversions() throws ParseException {
+        final CommandLine cmd = DefaultParser.builder().setParseListener(statistics).get().parse(options, new String[] { "-n", "1", "-n", "x" });
+        assertEquals(Integer.valueOf(1), cmd.getParsedOptionValue("n"));
+        assertThrows(ParseException.class, () -> cmd.getParsedOptionValues("n"));
+        assertEquals(Long.valueOf(3), statistics.getConversionCounts().get(Integer.class));
+        assertTrue(statistics.getConversionNanos().get(Integer.class) >= 0);
+        final CommandLine cached = DefaultParser.builder().setParseListener(statistics).setCacheConvertedValues(true).get().parse(options,
+                new String[] { "-n", "2" });
+        statistics.reset();
+        assertEquals(Integer.valueOf(2), cached.getParsedOptionValue("n"));
+        assertEquals(Integer.valueOf(2), cached.getParsedOptionValue("n"));
+        assertEquals(Long.valueOf(1), statistics.getConversionCounts().get(Integer.class));
+    }
+
+    @Test
+    void testCustomListener() throws ParseException {
+        final List<String> events = new ArrayList<>();
+        final ParseListener listener = new ParseListener() {
+            @Override
+            public void optionMatched(final Option option) {
+                events.add("matched " + option.getKey());
+            }
+
+            @Override
+            public void parseCompleted(final int tokenCount, final long durationNanos) {
+                events.add("completed " + tokenCount);
+            }
+
+            @Override
+            public void partialMatchResolved(final String token, final Option option) {
+                events.add("partial " + token);
+            }
+        };
+        final Properties properties = new Properties();
+        properties.setProperty("number", "5");
+        DefaultParser.builder().setParseListener(listener).get().parse(options, new String[] { "--verb", "arg" }, properties);
+        assertEquals("[partial --verb, matched v, matched n, completed 2]", events.toString());
+    }
+
+    @Test
+    void testFailures() {
+        final DefaultParser parser = DefaultParser.builder().setParseListener(statistics).get();
+        assertThrows(AmbiguousOptionException.class, () -> parser.parse(options, new String[] { "-v", "--ver" }));
+        assertThrows(UnrecognizedOptionException.class, () -> parser.parse(options, new String[] { "-z" }));
+        assertThrows(UnrecognizedOptionException.class, () -> parser.parse(options, new String[] { "--zz" }));
+        assertThrows(MissingArgumentException.class, () -> parser.parse(options, new String[] { "-n" }));
+        assertEquals(0, statistics.getParseCount());
+        assertEquals(4, statistics.getFailureCount());
+        assertEquals(5, statistics.getTokenCount());
+        assertEquals(1, statistics.getAmbiguousMatchCount());
+        assertEquals(Long.valueOf(2), statistics.getExceptionCounts().get(UnrecognizedOptionException.class));
+        assertEquals(Long.valueOf(1), statistics.getExceptionCounts().get(MissingArgumentException.class));
+        assertEquals(3, statistics.getExceptionCounts().size());
+    }
+
+    @Test
+    void testParse() throws ParseException {
+        final DefaultParser parser = DefaultParser.builder().setParseListener(statistics).get();
+        parser.parse(options, new String[] { "-v", "--number=3", "--vers", "arg" });
+        assertEquals(1, statistics.getParseCount());
+        assertEquals(0, statistics.getFailureCount());
+        assertEquals(4, statistics.getTokenCount());
+        assertEquals(3, statistics.getOptionMatchCount());
+        assertEquals(1, statistics.getPartialMatchCount());
+        assertEquals(0, statistics.getAmbiguousMatchCount());
+        assertTrue(statistics.getParseNanos() >= 0);
+        assertTrue(statistics.getExceptionCounts().isEmpty());
+        statistics.reset();
+        assertEquals(0, statistics.getParseCount());
+        assertEquals(0, statistics.getTokenCount());
+        assertEquals(0, statistics.getOptionMatchCount());
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.commons.cli;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -99,6 +100,23 @@ class PatternOptionBuilderTest {
         assertNull(line.getOptionObject("n"), "n value");
     }
 
+    @Test
+    void testRepeatedPatternReturnsNewOptions() throws Exception {
+        final Options first = PatternOptionBuilder.parsePattern("a:b%c");
+        first.getOption("a").setRequired(true);
+        first.addOption("d", false, "added");
+        new DefaultParser().parse(first, new String[] { "-a", "value", "-b", "1" });
+        final Options second = PatternOptionBuilder.parsePattern("a:b%c");
+        assertNotSame(first, second);
+        assertNotSame(first.getOption("a"), second.getOption("a"));
+        assertFalse(second.getOption("a").isRequired());
+        assertTrue(second.getOption("a").isValuesEmpty());
+        assertFalse(second.hasOption("d"));
+        assertEquals(3, second.getOptions().size());
+        assertEquals(Number.class, second.getOption("b").getType());
+        assertEquals(Long.valueOf(7), new DefaultParser().parse(second, new String[] { "-b", "7" }).getParsedOptionValue("b"));
+    }
+
     @Test
     void testRequiredOption() throws Exception {
         final Options options = PatternOptionBuilder.parsePattern("!n%m%");
@@ -17,6 +17,13 @@
 
 package org.apache.commons.cli;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Properties;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -35,6 +42,22 @@ class PosixParserTest extends AbstractParserTestCase {
         parser = new PosixParser();
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    void testAmbiguousOptionAfterUnrecognizedOption() {
+        options.addOption(null, "bfile-name", true, "set the name of [b]");
+        final String[] args = { "-z", "--bf", "arg" };
+        // the arguments are flattened as they are parsed, the ambiguous option is still reported first
+        assertEquals("--bf", assertThrows(AmbiguousOptionException.class, () -> parser.parse(options, args)).getOption());
+        final PosixParser twoPass = new PosixParser() {
+            @Override
+            protected void burstToken(final String token, final boolean stopAtNonOption) {
+                super.burstToken(token, stopAtNonOption);
+            }
+        };
+        assertEquals("--bf", assertThrows(AmbiguousOptionException.class, () -> twoPass.parse(options, args)).getOption());
+    }
+
     @Override
     @Test
     @Disabled("not supported by the PosixParser")
@@ -83,6 +106,34 @@ class PosixParserTest extends AbstractParserTestCase {
     void testNegativeOption() throws Exception {
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    void testReadOnlyOptions() throws Exception {
+        final OptionGroup group = new OptionGroup();
+        group.addOption(new Option("f", "file", true, "file to process"));
+        group.addOption(new Option("d", "directory", true, "directory to process"));
+        options.addOptionGroup(group);
+        final PosixParser posixParser = new PosixParser();
+        posixParser.setReadOnlyOptions(true);
+        assertTrue(posixParser.isReadOnlyOptions());
+        final Properties properties = new Properties();
+        properties.setProperty("d", "dir");
+        properties.setProperty("b", "props");
+        final CommandLine cmd = posixParser.parse(options, new String[] { "-f", "a.txt", "-ab", "value" }, properties);
+        assertEquals("a.txt", cmd.getOptionValue(group));
+        assertFalse(cmd.hasOption("d"), "the group is already selected");
+        assertEquals("value", cmd.getOptionValue("b"));
+        final CommandLine defaults = posixParser.parse(options, new String[] { "-c" }, properties);
+        assertEquals("dir", defaults.getOptionValue(group));
+        assertEquals("props", defaults.getOptionValue("b"));
+        final String[] conflicting = { "-f", "a", "-d", "b" };
+        final AlreadySelectedException e = assertThrows(AlreadySelectedException.class, () -> posixParser.parse(options, conflicting));
+        assertEquals("The option 'd' was specified but an option from this group has already been selected: 'f'", e.getMessage());
+        assertFalse(group.isSelected(), "the Options must not be modified");
+        assertTrue(options.getOption("b").isValuesEmpty(), "the Options must not be modified");
+        assertEquals("a.txt", cmd.getOptionValue(group));
+    }
+
     @Override
     @Test
     @Disabled("not supported by the PosixParser")
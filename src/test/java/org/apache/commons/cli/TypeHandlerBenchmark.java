@@ -0,0 +1,105 @@
+/*
+  Licensed to the Apache Software Foundation (ASF) under one or more
+  contributor license agreements.  See the NOTICE file distributed with
+  this work for additional information regarding copyright ownership.
+  The ASF licenses this file to You under the Apache License, Version 2.0
+  (the "License"); you may not use this file except in compliance with
+  the License.  You may obtain a copy of the License at
+
+      https://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+ */
+
+package org.apache.commons.cli;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link TypeHandler} conversions with the default converters.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=TypeHandlerBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeHandlerBenchmark {
+
+    @Benchmark
+    public BigDecimal createBigDecimal() throws ParseException {
+        return TypeHandler.createValue("12345.6789", BigDecimal.class);
+    }
+
+    @Benchmark
+    public Class<?> createClass() throws ParseException {
+        return TypeHandler.createValue("java.lang.String", Class.class);
+    }
+
+    @Benchmark
+    public Date createDate() throws ParseException {
+        return TypeHandler.createValue("Thu Jun 06 17:48:57 EDT 2002", Date.class);
+    }
+
+    @Benchmark
+    public Double createDouble() throws ParseException {
+        return TypeHandler.createValue("3.14159", Double.class);
+    }
+
+    @Benchmark
+    public TimeUnit createEnum() throws ParseException {
+        return TypeHandler.createValue("SECONDS", TimeUnit.class);
+    }
+
+    @Benchmark
+    public File createFile() throws ParseException {
+        return TypeHandler.createValue("target/some.file", File.class);
+    }
+
+    @Benchmark
+    public Instant createInstant() throws ParseException {
+        return TypeHandler.createValue("2002-06-06T21:48:57Z", Instant.class);
+    }
+
+    @Benchmark
+    public Integer createInteger() throws ParseException {
+        return TypeHandler.createValue("12345", Integer.class);
+    }
+
+    @Benchmark
+    public Long createLong() throws ParseException {
+        return TypeHandler.createValue("1234567890123", Long.class);
+    }
+
+    @Benchmark
+    public Number createNumber() throws ParseException {
+        return TypeHandler.createValue("1.5", Number.class);
+    }
+
+    @Benchmark
+    public URL createURL() throws ParseException {
+        return TypeHandler.createValue("https://commons.apache.org/proper/commons-cli/", URL.class);
+    }
+}
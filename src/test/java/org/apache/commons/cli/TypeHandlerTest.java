@@ -19,6 +19,7 @@ package org.apache.commons.cli;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -34,11 +35,18 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 import org.apache.commons.io.FileUtils;
@@ -155,6 +163,14 @@ class TypeHandlerTest {
         list.add(Arguments.of("5", BigDecimal.class, new BigDecimal("5")));
         list.add(Arguments.of("5.5", BigDecimal.class, new BigDecimal(5.5)));
 
+        list.add(Arguments.of("PT15M", Duration.class, Duration.ofMinutes(15)));
+        list.add(Arguments.of("15", Duration.class, ParseException.class));
+        list.add(Arguments.of("2002-06-06T21:48:57Z", Instant.class, Instant.ofEpochSecond(1023400137L)));
+        list.add(Arguments.of("2002-06-06", LocalDate.class, LocalDate.of(2002, 6, 6)));
+        list.add(Arguments.of("2002-02-30", LocalDate.class, ParseException.class));
+        list.add(Arguments.of("2002-06-06T17:48:57", LocalDateTime.class, LocalDateTime.of(2002, 6, 6, 17, 48, 57)));
+        list.add(Arguments.of("2002-06-06T17:48:57-04:00", ZonedDateTime.class, ZonedDateTime.of(2002, 6, 6, 17, 48, 57, 0, ZoneOffset.ofHours(-4))));
+
         list.add(Arguments.of("1.5", PatternOptionBuilder.NUMBER_VALUE, Double.valueOf(1.5)));
         list.add(Arguments.of("15", PatternOptionBuilder.NUMBER_VALUE, Long.valueOf(15)));
         list.add(Arguments.of("not a number", PatternOptionBuilder.NUMBER_VALUE, ParseException.class));
@@ -250,6 +266,36 @@ class TypeHandlerTest {
         }
     }
 
+    @Test
+    void testResolveConverter() throws Exception {
+        final Map<Class<?>, Converter<?, ? extends Throwable>> map = TypeHandler.createDefaultMap();
+        final TypeHandler typeHandler = new TypeHandler(map);
+        // enums
+        assertEquals(TimeUnit.SECONDS, typeHandler.getConverter(TimeUnit.class).apply("SECONDS"));
+        assertThrows(IllegalArgumentException.class, () -> typeHandler.getConverter(TimeUnit.class).apply("FORTNIGHTS"));
+        // superclasses other than Object, an inherited converter must return an instance of the Class
+        assertThrows(ParseException.class, () -> typeHandler.getConverter(AtomicLong.class).apply("1"));
+        assertThrows(ParseException.class, () -> typeHandler.getConverter(java.sql.Timestamp.class).apply(new Date(0).toString()));
+        assertEquals(Converter.DEFAULT, typeHandler.getConverter(String.class));
+        assertEquals(Converter.DEFAULT, typeHandler.getConverter(StringBuilder.class));
+        assertSame(typeHandler.getConverter(AtomicLong.class), typeHandler.getConverter(AtomicLong.class));
+        // interfaces, the cache is cleared when the map grows
+        final Converter<CharSequence, RuntimeException> charSequenceConverter = s -> s;
+        map.put(CharSequence.class, charSequenceConverter);
+        assertEquals("abc", typeHandler.getConverter(String.class).apply("abc"));
+        assertThrows(ParseException.class, () -> typeHandler.getConverter(StringBuilder.class).apply("abc"));
+        // a registered converter wins
+        assertEquals(Converter.OBJECT, typeHandler.getConverter(Object.class));
+        // replacing a converter requires clearing the cache
+        final Converter<CharSequence, RuntimeException> replacement = StringBuilder::new;
+        map.put(CharSequence.class, replacement);
+        assertThrows(ParseException.class, () -> typeHandler.getConverter(StringBuilder.class).apply("abc"));
+        typeHandler.clearCache();
+        assertEquals("abc", typeHandler.getConverter(StringBuilder.class).apply("abc").toString());
+        assertThrows(ParseException.class, () -> typeHandler.getConverter(String.class).apply("abc"));
+        assertEquals(Converter.DEFAULT, typeHandler.getConverter(null));
+    }
+
     @Test
     void testRegister() {
         final Map<Class<?>, Converter<?, ? extends Throwable>> map = TypeHandler.createDefaultMap();
@@ -35,6 +35,37 @@ class UtilTest {
         assertEquals("\"", Util.stripLeadingAndTrailingQuotes("\""));
     }
 
+    @Test
+    void testIsDouble() {
+        final String[] tokens = { "", " ", "-", "+", ".", "-.", "1", "-1", "+1", "-1.", "-.5", "-1.5", "-1.5.2", "--1", "+-1", "-1e", "-1e5", "-1E+5", "-1e-5",
+            "-1e5.0", "-1ee5", "-1.5f", "-1.5F", "-1d", "-1D", "-1.5ff", "-1l", "-1x", " -1 ", "\t-2\n", "- 1", "-NaN", "NaN", "-nan", "-NaNx", "-Infinity",
+            "+Infinity", "-Infinityf", "-Inf", "-0x1p1", "-0X1.8P-3", "-0x.8p1", "-0x1.p1", "-0x.p1", "-0x1", "-0x1p", "-0xfp1f", "-0xgp1", "-0x1e1",
+            "-0x1p1.5", "-00x1p1", "-x1p1", "-1\u0660", "-\uff11", "-0xap\u0661", "-a", "-abc", "-Dkey=value", "-e5", "-1_000", "-1,5" };
+        for (final String token : tokens) {
+            boolean expected;
+            try {
+                Double.parseDouble(token);
+                expected = true;
+            } catch (final NumberFormatException e) {
+                expected = false;
+            }
+            assertEquals(expected, Util.isDouble(token), token);
+        }
+    }
+
+    @Test
+    void testLeadingHyphens() {
+        assertEquals(1, Util.leadingHyphens("-f"));
+        assertEquals(2, Util.leadingHyphens("--foo"));
+        assertEquals(2, Util.leadingHyphens("---foo"));
+        assertEquals(0, Util.leadingHyphens("foo"));
+        assertEquals(0, Util.leadingHyphens(""));
+        assertEquals(0, Util.leadingHyphens(null));
+        assertEquals(1, Util.leadingHyphens("--foo", 1));
+        assertEquals(2, Util.leadingHyphens("---foo", 1));
+        assertEquals(0, Util.leadingHyphens("-foo", 1));
+    }
+
     @Test
     void testStripLeadingHyphens() {
         assertEquals("f", Util.stripLeadingHyphens("-f"));
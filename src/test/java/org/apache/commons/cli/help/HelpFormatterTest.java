@@ -147,6 +147,57 @@ class HelpFormatterTest {
         assertEquals(0, sb.length(), "Should not write to output");
     }
 
+    @Test
+    void testPrintHelpCache() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        final TextHelpAppendable serializer = new TextHelpAppendable(sb);
+        final int[] tableCount = { 0 };
+        final HelpFormatter formatter = new HelpFormatter(HelpFormatter.builder().setHelpAppendable(serializer).setCacheHelp(true)) {
+            @Override
+            public TableDefinition getTableDefinition(final Iterable<Option> options) {
+                tableCount[0]++;
+                return super.getTableDefinition(options);
+            }
+        };
+        final Options options = new Options().addOption(Option.builder("a").hasArg().desc("aaaa aaaa aaaa aaaa aaaa").get());
+        final Options frozen = options.freeze();
+        formatter.printHelp("commandSyntax", "header", frozen, "footer", true);
+        final String expected = sb.toString();
+        sb.setLength(0);
+        formatter.printHelp("commandSyntax", "header", frozen, "footer", true);
+        assertEquals(expected, sb.toString());
+        assertEquals(1, tableCount[0]);
+        final StringBuilder uncached = new StringBuilder();
+        HelpFormatter.builder().setHelpAppendable(new TextHelpAppendable(uncached)).get().printHelp("commandSyntax", "header", options, "footer", true);
+        assertEquals(expected, uncached.toString());
+        // Options that are not frozen may change, so their help is not cached
+        sb.setLength(0);
+        formatter.printHelp("commandSyntax", "header", options, "footer", true);
+        options.getOption("a").setDescription("bbbb");
+        formatter.printHelp("commandSyntax", "header", options, "footer", true);
+        assertEquals(3, tableCount[0]);
+        assertTrue(sb.toString().contains("bbbb"));
+        // the output width and the syntax prefix are part of the key
+        serializer.setMaxWidth(40);
+        formatter.printHelp("commandSyntax", "header", frozen, "footer", true);
+        formatter.setSyntaxPrefix("Usage: ");
+        formatter.printHelp("commandSyntax", "header", frozen, "footer", true);
+        formatter.printHelp("commandSyntax", "header", frozen, "footer", true);
+        assertEquals(5, tableCount[0]);
+        // another appendable type is not cached
+        final XhtmlHelpAppendable xhtmlAppendable = new XhtmlHelpAppendable(new StringBuilder());
+        final HelpFormatter xhtml = new HelpFormatter(HelpFormatter.builder().setHelpAppendable(xhtmlAppendable).setCacheHelp(true)) {
+            @Override
+            public TableDefinition getTableDefinition(final Iterable<Option> options) {
+                tableCount[0]++;
+                return super.getTableDefinition(options);
+            }
+        };
+        xhtml.printHelp("commandSyntax", frozen);
+        xhtml.printHelp("commandSyntax", frozen);
+        assertEquals(7, tableCount[0]);
+    }
+
     /**
      * Tests example from the mailing list that caused an infinite loop.
      *
@@ -547,6 +598,20 @@ class HelpFormatterTest {
                 "options with required group failed");
     }
 
+    @Test
+    void testToSyntaxOptionsManyGroups() {
+        final HelpFormatter underTest = HelpFormatter.builder().get();
+        final Options options = new Options();
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 10; i < 60; i++) {
+            options.addOptionGroup(new OptionGroup().addOption(new Option("g" + i + "a", "first")).addOption(new Option("g" + i + "b", "second")));
+            expected.append(i == 10 ? "" : " ").append("[-g").append(i).append("a | -g").append(i).append("b]");
+        }
+        options.addOption("z", "zero", false, "not grouped");
+        expected.append(" [-z]");
+        assertEquals(expected.toString(), underTest.toSyntaxOptions(options));
+    }
+
     @Test
     void verifyOptionGroupingOutput() throws IOException {
          // create options and groups
@@ -157,6 +157,21 @@ final class TextHelpAppendableTest {
         assertEquals(expected, actual, "null list failed");
     }
 
+    @Test
+    void testAppendListWrappingFailure() throws IOException {
+        // the continuation lines of the entry have no room left after the list indent
+        underTest.getTextStyleBuilder().setMaxWidth(TextHelpAppendable.DEFAULT_LIST_INDENT);
+        assertThrows(IllegalArgumentException.class, () -> underTest.appendList(false, Arrays.asList("one", "aaaa bbbb")));
+        assertEquals(String.format("  * one%n"), sb.toString());
+        sb.setLength(0);
+        final TextHelpAppendable queues = new TextHelpAppendable(sb) {
+            // renders through the column queues
+        };
+        queues.getTextStyleBuilder().setMaxWidth(TextHelpAppendable.DEFAULT_LIST_INDENT);
+        assertThrows(IllegalArgumentException.class, () -> queues.appendList(false, Arrays.asList("one", "aaaa bbbb")));
+        assertEquals(String.format("  * one%n"), sb.toString());
+    }
+
     @Test
     void testAppendParagraph() throws IOException {
         final String[] expected = { " Hello World", "" };
@@ -259,6 +274,34 @@ final class TextHelpAppendableTest {
 
     }
 
+    @Test
+    void testAppendTableOverriddenQueues() throws IOException {
+        final List<String> wrapped = new ArrayList<>();
+        final StringBuilder queued = new StringBuilder();
+        final TextHelpAppendable overriding = new TextHelpAppendable(queued) {
+            @Override
+            protected Queue<String> makeColumnQueue(final CharSequence columnData, final TextStyle style) {
+                wrapped.add(columnData.toString());
+                return super.makeColumnQueue(columnData, style);
+            }
+        };
+        final TextStyle.Builder styleBuilder = TextStyle.builder();
+        final List<TextStyle> styles = Arrays.asList(styleBuilder.setIndent(2).get(), styleBuilder.setIndent(0).setLeftPad(5).get());
+        final List<List<String>> rows = Arrays.asList(Arrays.asList("The quick brown fox jumps over the lazy dog", ""),
+                Arrays.asList("", "Now is the time for all good people to come to the aid of their country"));
+        final TableDefinition table = TableDefinition.from("Common Phrases", styles, Arrays.asList("fox", "time"), rows);
+        overriding.setMaxWidth(40);
+        overriding.appendTable(table);
+        overriding.appendHeader(2, "The header");
+        overriding.printWrapped("Now is the time for all good people to come to the aid of their country");
+        underTest.setMaxWidth(40);
+        underTest.appendTable(table);
+        underTest.appendHeader(2, "The header");
+        underTest.printWrapped("Now is the time for all good people to come to the aid of their country");
+        assertEquals(queued.toString(), sb.toString());
+        assertEquals(Arrays.asList("Common Phrases", "fox", "time"), wrapped.subList(0, 3));
+    }
+
     @Test
     void testGetStyleBuilder() {
         final TextStyle.Builder builder = underTest.getTextStyleBuilder();